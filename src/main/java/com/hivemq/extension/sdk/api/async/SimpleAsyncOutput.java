@@ -20,6 +20,7 @@ import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Enables an output object to be processed in a non-blocking way.
@@ -41,4 +42,27 @@ public interface SimpleAsyncOutput<T> {
      * @since 4.0.0, CE 2019.1
      */
     @NotNull Async<T> async(@NotNull Duration timeout);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * The output is processed when the completion stage is completed, but never before the callback (for example the
+     * interceptor or authorizer method) that called this method has returned. If the completion stage is already
+     * completed when this method is called, the output is processed directly after the callback returns without any
+     * thread handoff. All decisions and modifications of the output must therefore be made before the completion stage
+     * is completed or before the callback returns, whichever happens later. The result value of the completion stage is
+     * ignored. This allows to directly chain asynchronous operations of the extension.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled as failed.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(@NotNull CompletionStage<?> completionStage, @NotNull Duration timeout);
 }
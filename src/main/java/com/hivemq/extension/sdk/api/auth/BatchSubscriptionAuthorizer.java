@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.auth;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.auth.parameter.BatchSubscriptionAuthorizerInput;
+import com.hivemq.extension.sdk.api.auth.parameter.BatchSubscriptionAuthorizerOutput;
+
+/**
+ * Interface for the authorization of all subscriptions of a SUBSCRIBE packet in a single call.
+ * <p>
+ * In contrast to the {@link SubscriptionAuthorizer}, which is called once per subscription, a
+ * BatchSubscriptionAuthorizer is called once per SUBSCRIBE packet and decides for every subscription of the packet.
+ * This allows to authorize all subscriptions with a single request to an external system.
+ * <p>
+ * If an Authorizer implements both {@link SubscriptionAuthorizer} and BatchSubscriptionAuthorizer, only
+ * {@link #authorizeSubscribe(BatchSubscriptionAuthorizerInput, BatchSubscriptionAuthorizerOutput)} is called.
+ * <p>
+ * An Authorizer is always called by the same Thread for all messages from the same client.
+ * <p>
+ * If the same instance is shared between multiple clients it can be called in different Threads and must therefore be
+ * thread-safe.
+ *
+ * @since 4.54.0
+ */
+public interface BatchSubscriptionAuthorizer extends Authorizer {
+
+    /**
+     * Called for each SUBSCRIBE packet that contains at least one subscription that the
+     * {@link BatchSubscriptionAuthorizer} is delegated to authorize.
+     * <p>
+     * When the extension is enabled after HiveMQ is already running, this method will also be called for future
+     * SUBSCRIBEs of clients that are already connected.
+     *
+     * @param batchSubscriptionAuthorizerInput  The {@link BatchSubscriptionAuthorizerInput}.
+     * @param batchSubscriptionAuthorizerOutput The {@link BatchSubscriptionAuthorizerOutput}.
+     * @since 4.54.0
+     */
+    void authorizeSubscribe(
+            @NotNull BatchSubscriptionAuthorizerInput batchSubscriptionAuthorizerInput,
+            @NotNull BatchSubscriptionAuthorizerOutput batchSubscriptionAuthorizerOutput);
+}
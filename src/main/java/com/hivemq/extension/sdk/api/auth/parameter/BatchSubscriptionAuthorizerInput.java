@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.auth.parameter;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.auth.BatchSubscriptionAuthorizer;
+import com.hivemq.extension.sdk.api.packets.subscribe.SubscribePacket;
+import com.hivemq.extension.sdk.api.packets.subscribe.Subscription;
+import com.hivemq.extension.sdk.api.parameter.ClientBasedInput;
+
+/**
+ * This is the input parameter of any {@link BatchSubscriptionAuthorizer} providing unmodifiable information about the
+ * {@link SubscribePacket} and {@link ClientBasedInput}.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface BatchSubscriptionAuthorizerInput extends ClientBasedInput {
+
+    /**
+     * Get the unmodifiable SUBSCRIBE packet whose subscriptions have to be authorized.
+     * <p>
+     * The index of a {@link Subscription} in {@link SubscribePacket#getSubscriptions()} is used to identify the
+     * subscription in the {@link BatchSubscriptionAuthorizerOutput}.
+     *
+     * @return The {@link SubscribePacket} for this authorization call.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull SubscribePacket getSubscribePacket();
+}
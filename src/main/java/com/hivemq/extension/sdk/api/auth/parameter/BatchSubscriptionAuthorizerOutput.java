@@ -0,0 +1,213 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.auth.parameter;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.async.AsyncOutput;
+import com.hivemq.extension.sdk.api.auth.BatchSubscriptionAuthorizer;
+import com.hivemq.extension.sdk.api.auth.SubscriptionAuthorizer;
+import com.hivemq.extension.sdk.api.packets.auth.ModifiableDefaultPermissions;
+import com.hivemq.extension.sdk.api.packets.disconnect.DisconnectReasonCode;
+import com.hivemq.extension.sdk.api.packets.subscribe.SubackReasonCode;
+import com.hivemq.extension.sdk.api.packets.subscribe.SubscribePacket;
+
+/**
+ * This is the output parameter of any {@link BatchSubscriptionAuthorizer} providing methods to define the outcome of
+ * the authorization of every subscription of a SUBSCRIBE packet.
+ * <p>
+ * Subscriptions are identified by their index in {@link SubscribePacket#getSubscriptions()}.
+ * <p>
+ * It can be used to
+ * <ul>
+ *   <li>Authorize a subscription successfully
+ *   <li>Let the authorization of a subscription fail
+ *   <li>Delegate the decision for a subscription to the next extension
+ *   <li>Disconnect the sender of the SUBSCRIBE packet
+ * </ul>
+ * <p>
+ * At most one decision can be made per subscription. Subsequent decisions for the same subscription will fail with an
+ * {@link UnsupportedOperationException}. The decision for subscriptions without a decision after the authorizer has
+ * returned or the async operation has been resumed is delegated to the next extension, as if
+ * {@link #nextExtensionOrDefault(int)} had been called for them.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface BatchSubscriptionAuthorizerOutput extends AsyncOutput<BatchSubscriptionAuthorizerOutput> {
+
+    /**
+     * Successfully authorizes the subscription at the specified index.
+     * <p>
+     * This is a final decision for the subscription, other extensions or default permissions are ignored.
+     *
+     * @param index The index of the subscription.
+     * @throws IndexOutOfBoundsException     If the index is out of range.
+     * @throws UnsupportedOperationException When a decision for the subscription or disconnectClient has already been
+     *                                       made.
+     * @since 4.54.0
+     */
+    void authorizeSuccessfully(int index);
+
+    /**
+     * Successfully authorizes all subscriptions that do not have a decision yet.
+     * <p>
+     * This is a final decision for these subscriptions, other extensions or default permissions are ignored.
+     *
+     * @throws UnsupportedOperationException When disconnectClient has already been called.
+     * @since 4.54.0
+     */
+    void authorizeRemainingSuccessfully();
+
+    /**
+     * Fails the authorization of the subscription at the specified index. The outcome depends on the MQTT version
+     * specified by the subscribing client.
+     * <ul>
+     *   <li>For an MQTT 3.1 client the connection is closed.
+     *   <li>For an MQTT 3.1.1 client the return code for the subscription in the SUBACK packet is 'Failure'.
+     *   <li>For an MQTT 5 client the reason code for the subscription in the SUBACK packet is
+     *     {@link SubackReasonCode#NOT_AUTHORIZED NOT_AUTHORIZED}.
+     * </ul>
+     * <p>
+     * This is a final decision for the subscription, other extensions or default permissions are ignored.
+     *
+     * @param index The index of the subscription.
+     * @throws IndexOutOfBoundsException     If the index is out of range.
+     * @throws UnsupportedOperationException When a decision for the subscription or disconnectClient has already been
+     *                                       made.
+     * @since 4.54.0
+     */
+    void failAuthorization(int index);
+
+    /**
+     * Fails the authorization of the subscription at the specified index. The outcome depends on the MQTT version
+     * specified by the subscribing client.
+     * <ul>
+     *   <li>For an MQTT 3.1 client the connection is closed.
+     *   <li>For an MQTT 3.1.1 client the return code for the subscription in the SUBACK packet is 'Failure'.
+     *   <li>For an MQTT 5 client the specified reason code is used for the subscription in the SUBACK packet.
+     * </ul>
+     * <p>
+     * This is a final decision for the subscription, other extensions or default permissions are ignored.
+     *
+     * @param index      The index of the subscription.
+     * @param reasonCode Used as the reason code for the subscription in the SUBACK packet.
+     * @throws IndexOutOfBoundsException     If the index is out of range.
+     * @throws IllegalArgumentException      If the specified reason code is not an error code.
+     * @throws UnsupportedOperationException When a decision for the subscription or disconnectClient has already been
+     *                                       made.
+     * @since 4.54.0
+     */
+    void failAuthorization(int index, @NotNull SubackReasonCode reasonCode);
+
+    /**
+     * Fails the authorization of the subscription at the specified index. The outcome depends on the MQTT version
+     * specified by the subscribing client.
+     * <ul>
+     *   <li>For an MQTT 3.1 client the connection is closed.
+     *   <li>For an MQTT 3.1.1 client the return code for the subscription in the SUBACK packet is 'Failure'.
+     *   <li>For an MQTT 5 client the specified reason code is used for the subscription in the SUBACK packet and the
+     *     SUBACK packet will contain the specified reason string. If this method is called for more than one
+     *     subscription, the reason strings are combined.
+     * </ul>
+     * <p>
+     * This is a final decision for the subscription, other extensions or default permissions are ignored.
+     *
+     * @param index        The index of the subscription.
+     * @param reasonCode   Used as the reason code for the subscription in the SUBACK packet.
+     * @param reasonString Used as the reason string for the SUBACK packet.
+     * @throws IndexOutOfBoundsException     If the index is out of range.
+     * @throws IllegalArgumentException      If the specified reason code is not an error code.
+     * @throws UnsupportedOperationException When a decision for the subscription or disconnectClient has already been
+     *                                       made.
+     * @since 4.54.0
+     */
+    void failAuthorization(int index, @NotNull SubackReasonCode reasonCode, @NotNull String reasonString);
+
+    /**
+     * The outcome of the authorization of the subscription at the specified index is determined by the next extension
+     * with a {@link BatchSubscriptionAuthorizer} or {@link SubscriptionAuthorizer}.
+     * <p>
+     * If no extension with an authorizer for subscriptions is left the default permissions (see
+     * {@link ModifiableDefaultPermissions}) are used. If no default permissions are set, then the authorization is
+     * denied.
+     *
+     * @param index The index of the subscription.
+     * @throws IndexOutOfBoundsException     If the index is out of range.
+     * @throws UnsupportedOperationException When a decision for the subscription or disconnectClient has already been
+     *                                       made.
+     * @since 4.54.0
+     */
+    void nextExtensionOrDefault(int index);
+
+    /**
+     * Disconnects the client that sent the SUBSCRIBE packet. The outcome depends on the MQTT version specified by the
+     * subscribing client.
+     * <ul>
+     *   <li>For an MQTT 3 client the connection is closed.
+     *   <li>An MQTT 5 client receives a DISCONNECT packet with reason code {@link DisconnectReasonCode#NOT_AUTHORIZED
+     *     NOT_AUTHORIZED}, then the connection is closed.
+     * </ul>
+     * <p>
+     * All subscriptions of the SUBSCRIBE packet are ignored, independent of the decisions that were already made.
+     * <p>
+     * This is a final decision, other extensions or default permissions are ignored.
+     *
+     * @throws UnsupportedOperationException When disconnectClient has already been called.
+     * @since 4.54.0
+     */
+    void disconnectClient();
+
+    /**
+     * Disconnects the client that sent the SUBSCRIBE packet. The outcome depends on the MQTT version specified by the
+     * subscribing client.
+     * <ul>
+     *   <li>For an MQTT 3 client the connection is closed.
+     *   <li>An MQTT 5 client receives a DISCONNECT packet with the specified reason code, then the connection is
+     *     closed.
+     * </ul>
+     * <p>
+     * All subscriptions of the SUBSCRIBE packet are ignored, independent of the decisions that were already made.
+     * <p>
+     * This is a final decision, other extensions or default permissions are ignored.
+     *
+     * @param reasonCode Used as the reason code for the DISCONNECT packet.
+     * @throws UnsupportedOperationException When disconnectClient has already been called.
+     * @since 4.54.0
+     */
+    void disconnectClient(@NotNull DisconnectReasonCode reasonCode);
+
+    /**
+     * Disconnects the client that sent the SUBSCRIBE packet. The outcome depends on the MQTT version specified by the
+     * subscribing client.
+     * <ul>
+     *   <li>For an MQTT 3 client the connection is closed.
+     *   <li>An MQTT 5 client receives a DISCONNECT packet with the specified reason code and reason string, then the
+     *     connection is closed.
+     * </ul>
+     * <p>
+     * All subscriptions of the SUBSCRIBE packet are ignored, independent of the decisions that were already made.
+     * <p>
+     * This is a final decision, other extensions or default permissions are ignored.
+     *
+     * @param reasonCode   Used as the reason code for the DISCONNECT packet.
+     * @param reasonString Used as the reason string for the DISCONNECT packet.
+     * @throws UnsupportedOperationException When disconnectClient has already been called.
+     * @since 4.54.0
+     */
+    void disconnectClient(@NotNull DisconnectReasonCode reasonCode, @NotNull String reasonString);
+}
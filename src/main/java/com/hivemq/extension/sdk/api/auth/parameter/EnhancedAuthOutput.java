@@ -17,6 +17,7 @@
 package com.hivemq.extension.sdk.api.auth.parameter;
 
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.annotations.Nullable;
 import com.hivemq.extension.sdk.api.async.Async;
@@ -29,6 +30,8 @@ import com.hivemq.extension.sdk.api.packets.general.ModifiableUserProperties;
 
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Output parameter provided to the methods of an {@link EnhancedAuthenticator}.
@@ -61,6 +64,10 @@ import java.time.Duration;
  * <p>
  * In case of a failed authentication a CONNACK packet with the appropriate reason code is sent to the client.
  * In case of a failed re-authentication a DISCONNECT packet with the appropriate reason code is sent to the client.
+ * <p>
+ * Resumption tickets allow a returning client to authenticate in a single step instead of repeating a full exchange
+ * with multiple round trips, see {@link #issueResumptionTicket(Duration, ByteBuffer)} and
+ * {@link #validateResumptionTicket(ByteBuffer)}.
  *
  * @author Christoph Schäbel
  * @author Daniel Krüger
@@ -303,6 +310,55 @@ public interface EnhancedAuthOutput extends AsyncOutput<EnhancedAuthOutput> {
      */
     void setTimeout(int timeout);
 
+    /**
+     * Issues a resumption ticket for the client, similar to a TLS session ticket.
+     * <p>
+     * The ticket is opaque, encrypted and authenticated by HiveMQ. It contains the specified ticket data, the client
+     * identifier and the authentication method of the client and its expiry time. The extension is responsible for
+     * delivering the ticket to the client, usually as part of the authentication data passed to
+     * {@link #authenticateSuccessfully(ByteBuffer)}. When the client connects again it can present the ticket, which
+     * the extension validates in one step with {@link #validateResumptionTicket(ByteBuffer)}.
+     * <p>
+     * Tickets are bearer credentials. They should only be issued to clients that are connected via TLS and their time
+     * to live should be short. A ticket has the following limits:
+     * <ul>
+     *   <li>A ticket is self-contained and HiveMQ does not keep track of validated tickets. It is not single-use, it
+     *       can be validated any number of times on any HiveMQ node until it expires or is invalidated with
+     *       {@link com.hivemq.extension.sdk.api.services.auth.SecurityRegistry#invalidateResumptionTickets()}.</li>
+     *   <li>A ticket is bound to the client identifier. A client with an assigned client identifier can only use the
+     *       ticket if it connects again with the assigned client identifier. If it connects with an empty client
+     *       identifier again, HiveMQ assigns a new client identifier and the ticket is never valid.</li>
+     * </ul>
+     *
+     * @param timeToLive The duration the ticket is valid for.
+     * @param ticketData The data that is returned when the ticket is validated, for example the identity or the
+     *                   permissions of the client.
+     * @return A read-only {@link ByteBuffer} containing the ticket.
+     * @throws NullPointerException     If the time to live or the ticket data is null.
+     * @throws IllegalArgumentException If the time to live is zero or negative.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull ByteBuffer issueResumptionTicket(@NotNull Duration timeToLive, @NotNull ByteBuffer ticketData);
+
+    /**
+     * Validates a resumption ticket that the client presented.
+     * <p>
+     * A ticket is only valid if it was issued with {@link #issueResumptionTicket(Duration, ByteBuffer)} by the same
+     * extension on any HiveMQ node of the cluster, has not expired, was not invalidated and was issued for the same
+     * client identifier and authentication method. Validating a ticket does not make a decision, the extension must
+     * still call one of the decisive methods.
+     * <p>
+     * Validating a ticket does not consume it, the same ticket stays valid until it expires or is invalidated with
+     * {@link com.hivemq.extension.sdk.api.services.auth.SecurityRegistry#invalidateResumptionTickets()}.
+     *
+     * @param ticket The ticket presented by the client.
+     * @return An {@link Optional} containing a read-only {@link ByteBuffer} with the ticket data if the ticket is
+     *         valid.
+     * @throws NullPointerException If the ticket is null.
+     * @since 4.54.0
+     */
+    @NotNull Optional<@Immutable ByteBuffer> validateResumptionTicket(@NotNull ByteBuffer ticket);
+
     /**
      * Provides {@link ModifiableUserProperties} to add or remove user properties to or from the outgoing CONNACK, AUTH
      * or DISCONNECT packet.
@@ -426,4 +482,125 @@ public interface EnhancedAuthOutput extends AsyncOutput<EnhancedAuthOutput> {
             @NotNull TimeoutFallback timeoutFallback,
             @NotNull DisconnectedReasonCode reasonCode,
             @Nullable String reasonString);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param fallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                 <p>
+     *                 SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                 <p>
+     *                 FAILURE has the same effect as {@link #failAuthentication(DisconnectedReasonCode, String)}
+     *                 with reason code {@link DisconnectedReasonCode#NOT_AUTHORIZED NOT_AUTHORIZED} and reason
+     *                 string <code>Authentication failed, authenticator timed out</code> if the timeout occurs
+     *                 or <code>Authentication failed, authenticator failed</code> if the completion stage is
+     *                 completed exceptionally. During re-authentication the reason string starts with
+     *                 <code>Re-authentication failed</code> instead.
+     * @since 4.54.0
+     */
+    @Override
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback fallback);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                        <p>
+     *                        FAILURE has the same effect as {@link #failAuthentication(DisconnectedReasonCode, String)}
+     *                        with the specified reason code and reason string <code>Authentication failed,
+     *                        authenticator timed out</code> if the timeout occurs or <code>Authentication failed,
+     *                        authenticator failed</code> if the completion stage is completed exceptionally. During
+     *                        re-authentication the reason string starts with <code>Re-authentication failed</code>
+     *                        instead.
+     * @param reasonCode      The reason code sent in CONNACK or DISCONNECT when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @throws IllegalArgumentException      when {@link DisconnectedReasonCode} is set to a DISCONNECT only reason code
+     *                                       during authentication.
+     * @throws IllegalArgumentException      when {@link DisconnectedReasonCode} is set to a CONNACK only reason code
+     *                                       during re-authentication.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull DisconnectedReasonCode reasonCode);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                        <p>
+     *                        FAILURE has the same effect as {@link #failAuthentication(DisconnectedReasonCode, String)}
+     *                        with reason code {@link DisconnectedReasonCode#NOT_AUTHORIZED NOT_AUTHORIZED} and the
+     *                        specified reason string.
+     * @param reasonString    The reason string sent in CONNACK or DISCONNECT when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @Nullable String reasonString);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                        <p>
+     *                        FAILURE has the same effect as {@link #failAuthentication(DisconnectedReasonCode, String)}
+     *                        with the specified reason code and reason string.
+     * @param reasonCode      The reason code sent in CONNACK or DISCONNECT when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @param reasonString    The reason string sent in CONNACK or DISCONNECT when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @throws IllegalArgumentException      when {@link DisconnectedReasonCode} is set to a DISCONNECT only reason code
+     *                                       during authentication.
+     * @throws IllegalArgumentException      when {@link DisconnectedReasonCode} is set to a CONNACK only reason code
+     *                                       during re-authentication.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull DisconnectedReasonCode reasonCode,
+            @Nullable String reasonString);
 }
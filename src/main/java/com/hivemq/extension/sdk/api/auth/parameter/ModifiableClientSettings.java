@@ -19,9 +19,22 @@ package com.hivemq.extension.sdk.api.auth.parameter;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 
+import java.util.Optional;
+
 /**
  * An instance of this interface is provided by the {@link SimpleAuthOutput} and can be used to configure client
  * specific parameters and restrictions.
+ * <p>
+ * Inbound rate quotas are enforced with a token bucket per client. When the bucket of a client is empty, HiveMQ stops
+ * reading from the connection of the client until enough tokens are refilled, so other clients are not affected. The
+ * enforcement is exposed with the following metrics in the {@link com.codahale.metrics.MetricRegistry MetricRegistry}:
+ * <ul>
+ *   <li><code>com.hivemq.clients.quota.throttled-clients</code>: the amount of clients that are currently throttled
+ *   <li><code>com.hivemq.clients.quota.throttled-messages.count</code>: the amount of PUBLISH messages that were
+ *     delayed by a message rate quota
+ *   <li><code>com.hivemq.clients.quota.throttled-bytes.count</code>: the amount of bytes that were delayed by a byte
+ *     rate quota
+ * </ul>
  *
  * @author Lukas Brandl
  * @since 4.2.0, CE 2020.1
@@ -68,4 +81,66 @@ public interface ModifiableClientSettings {
      * @since 4.4.0
      */
     void setClientQueueSizeMaximum(long queueSizeMaximum);
+
+    /**
+     * Limits the rate of PUBLISH messages that the client can send.
+     * <p>
+     * The client can send up to the burst size of PUBLISH messages at once. After that it is limited to the specified
+     * amount of PUBLISH messages per second on average.
+     *
+     * @param messagesPerSecond The average amount of PUBLISH messages per second.
+     * @param burstSize         The maximum amount of PUBLISH messages that can be sent at once.
+     * @throws IllegalArgumentException If the messages per second or the burst size are less than 1.
+     * @since 4.54.0
+     */
+    void setInboundMessageRateQuota(long messagesPerSecond, long burstSize);
+
+    /**
+     * Limits the rate of bytes that the client can send, counting the size of all MQTT packets.
+     * <p>
+     * The client can send up to the burst size of bytes at once. After that it is limited to the specified amount of
+     * bytes per second on average. The burst size should be at least the maximum packet size, otherwise large packets
+     * are delayed until the bucket is full.
+     *
+     * @param bytesPerSecond The average amount of bytes per second.
+     * @param burstSize      The maximum amount of bytes that can be sent at once.
+     * @throws IllegalArgumentException If the bytes per second or the burst size are less than 1.
+     * @since 4.54.0
+     */
+    void setInboundByteRateQuota(long bytesPerSecond, long burstSize);
+
+    /**
+     * Removes the message rate quota and the byte rate quota of the client.
+     *
+     * @since 4.54.0
+     */
+    void removeInboundRateQuotas();
+
+    /**
+     * @return An {@link Optional} containing the average amount of PUBLISH messages per second that will be allowed
+     *         for this client if a message rate quota is set.
+     * @since 4.54.0
+     */
+    @NotNull Optional<Long> getInboundMessageRateQuota();
+
+    /**
+     * @return An {@link Optional} containing the maximum amount of PUBLISH messages that will be allowed at once for
+     *         this client if a message rate quota is set.
+     * @since 4.54.0
+     */
+    @NotNull Optional<Long> getInboundMessageBurstSize();
+
+    /**
+     * @return An {@link Optional} containing the average amount of bytes per second that will be allowed for this
+     *         client if a byte rate quota is set.
+     * @since 4.54.0
+     */
+    @NotNull Optional<Long> getInboundByteRateQuota();
+
+    /**
+     * @return An {@link Optional} containing the maximum amount of bytes that will be allowed at once for this client
+     *         if a byte rate quota is set.
+     * @since 4.54.0
+     */
+    @NotNull Optional<Long> getInboundByteBurstSize();
 }
@@ -18,6 +18,11 @@ package com.hivemq.extension.sdk.api.auth.parameter;
 
 /**
  * The enum is used to define how a client is affected by the overload protection.
+ * <p>
+ * When the HiveMQ cluster is saturated, the overload protection throttles clients by priority. Clients with
+ * {@link #LOW_PRIORITY} are throttled first and the most, clients with {@link #HIGH_PRIORITY} are throttled last and
+ * the least. This allows important traffic, for example of control clients, to keep flowing while bulk traffic is
+ * reduced.
  *
  * @author Lukas Brandl
  * @since 4.2.0, CE 2020.1
@@ -41,5 +46,23 @@ public enum OverloadProtectionThrottlingLevel {
      *
      * @since 4.2.0, CE 2020.1
      */
-    NONE
+    NONE,
+
+    /**
+     * The amount of PUBLISH messages that each client can send is limited based on the resources of the HiveMQ
+     * cluster. The client is throttled before clients with {@link #DEFAULT} and {@link #HIGH_PRIORITY} and receives a
+     * smaller share of the available resources while the cluster is overloaded.
+     *
+     * @since 4.54.0
+     */
+    LOW_PRIORITY,
+
+    /**
+     * The amount of PUBLISH messages that each client can send is limited based on the resources of the HiveMQ
+     * cluster. The client is throttled only after clients with {@link #LOW_PRIORITY} and {@link #DEFAULT} and receives
+     * a larger share of the available resources while the cluster is overloaded.
+     *
+     * @since 4.54.0
+     */
+    HIGH_PRIORITY
 }
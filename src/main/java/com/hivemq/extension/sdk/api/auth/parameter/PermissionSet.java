@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.auth.parameter;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.packets.auth.ModifiableDefaultPermissions;
+import com.hivemq.extension.sdk.api.services.builder.Builders;
+
+import java.util.List;
+
+/**
+ * An immutable, compiled set of {@link TopicPermission}s that can be shared by reference among many clients.
+ * <p>
+ * A permission set is built once via {@link Builders#permissionSet()} and then added to the default permissions of any
+ * amount of clients via {@link ModifiableDefaultPermissions#addPermissionSet(PermissionSet)}. The clients only keep a
+ * reference to the permission set, so the memory needed per client does not depend on the amount of topic permissions
+ * in the set.
+ * <p>
+ * The topic permissions of a permission set are indexed in a tree of topic levels. Matching a PUBLISH topic or a topic
+ * filter of a Subscription against a permission set therefore takes time proportional to the amount of topic levels
+ * instead of the amount of topic permissions. The result is the same as if the topic permissions were evaluated one
+ * after another in the order they were added: the first matching topic permission decides.
+ * <p>
+ * Topic permissions with a topic filter template, for example <code>devices/${clientid}/#</code>, are resolved for the
+ * authorized client at match time, so per client topic permissions can also be shared in a single permission set.
+ *
+ * @since 4.54.0
+ */
+@Immutable
+@DoNotImplement
+public interface PermissionSet {
+
+    /**
+     * All topic permissions of this permission set in the order they were added.
+     *
+     * @return An immutable {@link List} with all topic permissions of this permission set.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull List<@NotNull TopicPermission> asList();
+
+    /**
+     * @return The amount of topic permissions in this permission set.
+     * @since 4.54.0
+     */
+    int size();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.auth.parameter;
+
+/**
+ * The enum is used to define which PUBLISH messages a cached PUBLISH authorization decision applies to.
+ * <p>
+ * A cached decision always applies only to PUBLISH messages of the same connection of the same client.
+ *
+ * @see PublishAuthorizerOutput#cacheDecision(java.time.Duration, PublishAuthorizationCacheScope)
+ * @since 4.54.0
+ */
+public enum PublishAuthorizationCacheScope {
+
+    /**
+     * The decision applies to all PUBLISH messages with the same topic, regardless of their QoS and retain flag.
+     *
+     * @since 4.54.0
+     */
+    TOPIC,
+
+    /**
+     * The decision applies only to PUBLISH messages with the same topic, the same QoS and the same retain flag.
+     *
+     * @since 4.54.0
+     */
+    TOPIC_QOS_RETAIN
+}
@@ -24,6 +24,8 @@ import com.hivemq.extension.sdk.api.packets.auth.ModifiableDefaultPermissions;
 import com.hivemq.extension.sdk.api.packets.disconnect.DisconnectReasonCode;
 import com.hivemq.extension.sdk.api.packets.publish.AckReasonCode;
 
+import java.time.Duration;
+
 /**
  * This is the output parameter of any {@link PublishAuthorizer} providing methods to define the outcome of the PUBLISH
  * authorization.
@@ -48,6 +50,10 @@ import com.hivemq.extension.sdk.api.packets.publish.AckReasonCode;
  *   <li>{@link #nextExtensionOrDefault()}
  * </ul>
  * Subsequent calls will fail with an {@link UnsupportedOperationException}.
+ * <p>
+ * Additionally the decision can be marked as cacheable with
+ * {@link #cacheDecision(Duration, PublishAuthorizationCacheScope)}, so that HiveMQ does not call the
+ * {@link PublishAuthorizer} again for subsequent matching PUBLISH messages.
  *
  * @author Christoph Schäbel
  * @since 4.0.0, CE 2019.1
@@ -190,4 +196,38 @@ public interface PublishAuthorizerOutput extends AsyncOutput<PublishAuthorizerOu
      * @since 4.0.0, CE 2019.1
      */
     void nextExtensionOrDefault();
+
+    /**
+     * Marks the decision of this authorization as cacheable.
+     * <p>
+     * HiveMQ reuses the decision for subsequent PUBLISH messages of the same client connection that match the
+     * specified scope until the time to live expires. Only the {@link PublishAuthorizer} of this extension is skipped
+     * for these PUBLISH messages, so the decision must only depend on the client and on the properties that are part
+     * of the scope. The PublishAuthorizers of extensions with a higher priority are still called for every PUBLISH
+     * message and their decisions take precedence. The cached decision is only applied if all of them call
+     * {@link #nextExtensionOrDefault()}, so a cached decision never bypasses the authorizer of another extension.
+     * <p>
+     * Only the decisions {@link #authorizeSuccessfully()} and failAuthorization are cached. If the authorization ends
+     * with disconnectClient or {@link #nextExtensionOrDefault()} the mark is ignored.
+     * <p>
+     * All cached decisions of a client are discarded when:
+     * <ul>
+     *   <li>the client disconnects,</li>
+     *   <li>the client is re-authenticated (see
+     *       {@link com.hivemq.extension.sdk.api.auth.EnhancedAuthenticator#onReAuth(EnhancedAuthInput,
+     *       EnhancedAuthOutput) EnhancedAuthenticator.onReAuth}), regardless of the outcome of the re-authentication,
+     *   </li>
+     *   <li>the default permissions of the client are modified.</li>
+     * </ul>
+     * <p>
+     * This method can be called before or after the decisive method, as long as the authorization is not yet
+     * completed. Subsequent calls overwrite the time to live and scope.
+     *
+     * @param timeToLive The duration the decision is cached for.
+     * @param scope      The scope of PUBLISH messages the decision applies to.
+     * @throws NullPointerException     If the time to live or the scope is null.
+     * @throws IllegalArgumentException If the time to live is zero or negative.
+     * @since 4.54.0
+     */
+    void cacheDecision(@NotNull Duration timeToLive, @NotNull PublishAuthorizationCacheScope scope);
 }
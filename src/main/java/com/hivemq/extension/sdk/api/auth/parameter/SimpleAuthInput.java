@@ -41,4 +41,17 @@ public interface SimpleAuthInput extends ClientBasedInput {
      * @since 4.0.0, CE 2019.1
      */
     @Immutable @NotNull ConnectPacket getConnectPacket();
+
+    /**
+     * Checks if the username and password of the CONNECT packet have already been verified successfully by this
+     * extension and the verification is cached.
+     * <p>
+     * If <code>true</code> is returned, the authenticator can skip the verification of the credentials, but should
+     * still make the decision and apply permissions or client settings as usual.
+     *
+     * @return <code>true</code> if a cached verification of the credentials exists, else <code>false</code>.
+     * @see SimpleAuthOutput#cacheCredentialVerification(java.time.Duration)
+     * @since 4.54.0
+     */
+    boolean isCredentialVerificationCached();
 }
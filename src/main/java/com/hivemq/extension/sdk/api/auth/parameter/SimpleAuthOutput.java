@@ -26,8 +26,10 @@ import com.hivemq.extension.sdk.api.auth.SimpleAuthenticator;
 import com.hivemq.extension.sdk.api.packets.auth.ModifiableDefaultPermissions;
 import com.hivemq.extension.sdk.api.packets.connect.ConnackReasonCode;
 import com.hivemq.extension.sdk.api.packets.general.ModifiableUserProperties;
+import com.hivemq.extension.sdk.api.services.auth.SecurityRegistry;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Output parameter provided to {@link SimpleAuthenticator#onConnect(SimpleAuthInput, SimpleAuthOutput)}.
@@ -53,6 +55,8 @@ import java.time.Duration;
  * The default topic permissions only apply if the client is authenticated successfully.
  * <p>
  * In case of a failed authentication a CONNACK packet with the appropriate reason code is sent to the client.
+ * <p>
+ * A successful verification of the credentials can be cached with {@link #cacheCredentialVerification(Duration)}.
  *
  * @author Christoph Schäbel
  * @author Silvio Giebl
@@ -160,6 +164,31 @@ public interface SimpleAuthOutput extends AsyncOutput<SimpleAuthOutput> {
      */
     void nextExtensionOrDefault();
 
+    /**
+     * Caches the successful verification of the username and password of the CONNECT packet.
+     * <p>
+     * While the verification is cached, {@link SimpleAuthInput#isCredentialVerificationCached()} returns
+     * <code>true</code> for CONNECT packets of any client with exactly the same username and password, so the
+     * authenticator can skip expensive verifications, for example of password hashes or token signatures.
+     * <p>
+     * The verification is only cached if the client is authenticated successfully by this authenticator. Failed
+     * verifications are never cached. CONNECT packets without a password are never cached.
+     * <p>
+     * The cache is bounded and managed by HiveMQ. Entries are evicted when their time to live expires or when the cache
+     * is full. Entries are keyed on a salted cryptographic hash of the username and password, the credentials
+     * themselves are never stored. Verifications cached by an extension are only visible to the same extension. The
+     * cache can be configured and invalidated via the {@link SecurityRegistry}.
+     * <p>
+     * This method can be called before or after the decisive method, as long as the authentication is not yet
+     * completed.
+     *
+     * @param timeToLive The duration the verification is cached for.
+     * @throws NullPointerException     If the time to live is null.
+     * @throws IllegalArgumentException If the time to live is zero or negative.
+     * @since 4.54.0
+     */
+    void cacheCredentialVerification(@NotNull Duration timeToLive);
+
     /**
      * Provides {@link ModifiableUserProperties} to add or remove user properties to or from the outgoing CONNACK
      * packet.
@@ -271,4 +300,114 @@ public interface SimpleAuthOutput extends AsyncOutput<SimpleAuthOutput> {
             @NotNull TimeoutFallback timeoutFallback,
             @NotNull ConnackReasonCode reasonCode,
             @Nullable String reasonString);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param fallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                 <p>
+     *                 SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                 <p>
+     *                 FAILURE has the same effect as {@link #failAuthentication(ConnackReasonCode, String)} with
+     *                 reason code {@link ConnackReasonCode#NOT_AUTHORIZED NOT_AUTHORIZED} and reason string
+     *                 <code>Authentication failed, authenticator timed out</code> if the timeout occurs or
+     *                 <code>Authentication failed, authenticator failed</code> if the completion stage is
+     *                 completed exceptionally.
+     * @since 4.54.0
+     */
+    @Override
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback fallback);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                        <p>
+     *                        FAILURE has the same effect as {@link #failAuthentication(ConnackReasonCode, String)} with
+     *                        the specified reason code and reason string <code>Authentication failed, authenticator
+     *                        timed out</code> if the timeout occurs or <code>Authentication failed, authenticator
+     *                        failed</code> if the completion stage is completed exceptionally.
+     * @param reasonCode      The reason code sent in CONNACK when the completion stage is completed exceptionally or
+     *                        the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull ConnackReasonCode reasonCode);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                        <p>
+     *                        FAILURE has the same effect as {@link #failAuthentication(ConnackReasonCode, String)} with
+     *                        reason code {@link ConnackReasonCode#NOT_AUTHORIZED NOT_AUTHORIZED} and the specified
+     *                        reason string.
+     * @param reasonString    The reason string sent in CONNACK when the completion stage is completed exceptionally or
+     *                        the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @Nullable String reasonString);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        SUCCESS has the same effect as {@link #nextExtensionOrDefault()}.
+     *                        <p>
+     *                        FAILURE has the same effect as {@link #failAuthentication(ConnackReasonCode, String)} with
+     *                        the specified reason code and reason string.
+     * @param reasonCode      The reason code sent in CONNACK when the completion stage is completed exceptionally or
+     *                        the timeout occurs.
+     * @param reasonString    The reason string sent in CONNACK when the completion stage is completed exceptionally or
+     *                        the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull ConnackReasonCode reasonCode,
+            @Nullable String reasonString);
 }
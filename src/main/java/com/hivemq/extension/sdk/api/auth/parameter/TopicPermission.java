@@ -39,6 +39,18 @@ public interface TopicPermission {
      */
     @NotNull String getTopicFilter();
 
+    /**
+     * A topic filter template contains placeholders, like <code>${clientid}</code>, which are resolved for the client
+     * that is authorized whenever the topic permission is matched. In this case {@link #getTopicFilter()} returns the
+     * unresolved topic filter template.
+     *
+     * @return <code>true</code> if the topic filter of this permission is a topic filter template, else
+     *         <code>false</code>.
+     * @see com.hivemq.extension.sdk.api.services.builder.TopicPermissionBuilder#topicFilterTemplate(String)
+     * @since 4.54.0
+     */
+    boolean isTopicFilterTemplate();
+
     /**
      * If the PUBLISH/Subscription matches all criteria defined in the topic permission, the permission type decides if
      * the PUBLISH/Subscription is authorized or not.
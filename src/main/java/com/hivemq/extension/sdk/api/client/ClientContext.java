@@ -40,6 +40,7 @@ import com.hivemq.extension.sdk.api.interceptor.unsuback.UnsubackOutboundInterce
 import com.hivemq.extension.sdk.api.interceptor.unsubscribe.UnsubscribeInboundInterceptor;
 import com.hivemq.extension.sdk.api.packets.auth.ModifiableDefaultPermissions;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -65,6 +66,30 @@ public interface ClientContext {
      */
     void addPublishInboundInterceptor(@NotNull PublishInboundInterceptor publishInboundInterceptor);
 
+    /**
+     * Adds a {@link PublishInboundInterceptor} for this client that is only called for inbound PUBLISH packets
+     * with a topic that matches at least one of the given topic filters.
+     * <p>
+     * The topic filters are matched by HiveMQ with the same semantics as subscriptions, so the wildcards
+     * <code>+</code> and <code>#</code> can be used. PUBLISH packets that do not match any of the topic filters
+     * bypass the interceptor entirely, no input and output objects are created for them.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored, even if other topic filters are given.
+     * {@link #removePublishInboundInterceptor(PublishInboundInterceptor)} removes the interceptor for all of its topic
+     * filters.
+     *
+     * @param publishInboundInterceptor The implementation of a PublishInboundInterceptor.
+     * @param topicFilters              The topic filters the interceptor is called for.
+     * @throws NullPointerException     If the interceptor, the collection or any of the topic filters is null.
+     * @throws IllegalArgumentException If the collection of topic filters is empty.
+     * @throws IllegalArgumentException If any of the topic filters is not a valid topic filter.
+     * @throws IllegalArgumentException If any of the topic filters is a shared subscription topic filter.
+     * @since 4.54.0
+     */
+    void addPublishInboundInterceptor(
+            @NotNull PublishInboundInterceptor publishInboundInterceptor,
+            @NotNull Collection<@NotNull String> topicFilters);
+
     /**
      * Adds an {@link PublishOutboundInterceptor} for this client.
      * <p>
@@ -76,6 +101,30 @@ public interface ClientContext {
      */
     void addPublishOutboundInterceptor(@NotNull PublishOutboundInterceptor publishOutboundInterceptor);
 
+    /**
+     * Adds a {@link PublishOutboundInterceptor} for this client that is only called for outbound PUBLISH packets
+     * with a topic that matches at least one of the given topic filters.
+     * <p>
+     * The topic filters are matched by HiveMQ with the same semantics as subscriptions, so the wildcards
+     * <code>+</code> and <code>#</code> can be used. PUBLISH packets that do not match any of the topic filters
+     * bypass the interceptor entirely, no input and output objects are created for them.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored, even if other topic filters are given.
+     * {@link #removePublishOutboundInterceptor(PublishOutboundInterceptor)} removes the interceptor for all of its
+     * topic filters.
+     *
+     * @param publishOutboundInterceptor The implementation of a PublishOutboundInterceptor.
+     * @param topicFilters               The topic filters the interceptor is called for.
+     * @throws NullPointerException     If the interceptor, the collection or any of the topic filters is null.
+     * @throws IllegalArgumentException If the collection of topic filters is empty.
+     * @throws IllegalArgumentException If any of the topic filters is not a valid topic filter.
+     * @throws IllegalArgumentException If any of the topic filters is a shared subscription topic filter.
+     * @since 4.54.0
+     */
+    void addPublishOutboundInterceptor(
+            @NotNull PublishOutboundInterceptor publishOutboundInterceptor,
+            @NotNull Collection<@NotNull String> topicFilters);
+
     /**
      * Adds an {@link PubackInboundInterceptor} for this client.
      * <p>
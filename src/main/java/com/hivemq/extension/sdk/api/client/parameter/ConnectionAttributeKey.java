@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.client.parameter;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.services.builder.Builders;
+
+/**
+ * A pre-registered key for typed connection attributes in the {@link ConnectionAttributeStore}.
+ * <p>
+ * Each attribute key is resolved to a fixed slot when it is built, so accessing a connection attribute by its attribute
+ * key is an array access instead of a hash map lookup by string. Attribute keys should be built once, for example when
+ * the extension starts, and then be reused for all connections.
+ * <p>
+ * Attribute keys are created via {@link Builders#connectionAttributeKey()}.
+ *
+ * @param <T> The type of the values that are stored with this attribute key.
+ * @since 4.54.0
+ */
+@Immutable
+@DoNotImplement
+public interface ConnectionAttributeKey<T> {
+
+    /**
+     * @return The name of this attribute key.
+     * @since 4.54.0
+     */
+    @NotNull String getName();
+
+    /**
+     * @return The type of the values that are stored with this attribute key.
+     * @since 4.54.0
+     */
+    @NotNull Class<T> getType();
+}
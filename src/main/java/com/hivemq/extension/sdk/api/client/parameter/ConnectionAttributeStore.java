@@ -19,6 +19,7 @@ package com.hivemq.extension.sdk.api.client.parameter;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.Nullable;
 import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
 import com.hivemq.extension.sdk.api.services.exception.LimitExceededException;
 
@@ -43,6 +44,16 @@ import java.util.Optional;
  * after the MQTT client disconnected. This store is also useful for storing temporary information that needs to be
  * shared across callbacks.
  * <p>
+ * Numeric connection attributes, for example per connection counters, can be managed with
+ * {@link #putLong(String, long)}, {@link #getLong(String, long)}, {@link #incrementAndGet(String, long)} and
+ * {@link #compareAndSet(String, long, long)}. These methods do not allocate a ByteBuffer and are atomic, also when
+ * called concurrently from different callbacks. ByteBuffers that were returned for a numeric connection attribute
+ * before are snapshots and are not changed by these methods.
+ * <p>
+ * Connection attributes that are accessed very frequently, for example in every PUBLISH interceptor call, can be
+ * stored with a pre-registered {@link ConnectionAttributeKey}. An attribute key resolves to a fixed slot, so
+ * {@link #get(ConnectionAttributeKey)} is an array access without hashing the key or allocating an {@link Optional}.
+ * <p>
  * The ConnectionAttributeStore is thread safe.
  *
  * @author Silvio Giebl
@@ -87,6 +98,20 @@ public interface ConnectionAttributeStore {
      */
     void putAsString(@NotNull String key, @NotNull String value, @NotNull Charset charset);
 
+    /**
+     * Sets the given connection attribute as long value for the connected client.
+     * <p>
+     * The value is stored as 8 bytes in big-endian byte order, so it can also be retrieved via {@link #get(String)}.
+     * The ByteBuffer returned by {@link #get(String)} is a snapshot of the value at the time of the call, it is not
+     * changed by subsequent calls of {@link #incrementAndGet(String, long)} or
+     * {@link #compareAndSet(String, long, long)}.
+     *
+     * @param key   The key of the connection attribute.
+     * @param value The value of the connection attribute as a long.
+     * @since 4.54.0
+     */
+    void putLong(@NotNull String key, long value);
+
     /**
      * Retrieves the value of the connection attribute with the given key for the connected client.
      * <p>
@@ -120,6 +145,50 @@ public interface ConnectionAttributeStore {
      */
     @NotNull Optional<String> getAsString(@NotNull String key, @NotNull Charset charset);
 
+    /**
+     * Retrieves the value of the connection attribute with the given key for the connected client as long value.
+     * <p>
+     * In contrast to {@link #get(String)} this method does not allocate any objects.
+     *
+     * @param key          The key of the connection attribute.
+     * @param defaultValue The value to return if the connection attribute is not present.
+     * @return The value of the connection attribute as a long or the default value if not present.
+     * @throws IllegalStateException If the value of the connection attribute is not exactly 8 bytes long.
+     * @since 4.54.0
+     */
+    long getLong(@NotNull String key, long defaultValue);
+
+    /**
+     * Atomically adds the given delta to the long value of the connection attribute with the given key for the
+     * connected client.
+     * <p>
+     * If the connection attribute is not present, it is treated as <code>0</code> and set to the delta.
+     * <p>
+     * If the result overflows, it wraps around like {@link java.util.concurrent.atomic.AtomicLong#addAndGet(long)}
+     * does, so {@link Long#MAX_VALUE} incremented by <code>1</code> results in {@link Long#MIN_VALUE}.
+     *
+     * @param key   The key of the connection attribute.
+     * @param delta The value to add.
+     * @return The updated value of the connection attribute.
+     * @throws IllegalStateException If the value of the connection attribute is not exactly 8 bytes long.
+     * @since 4.54.0
+     */
+    long incrementAndGet(@NotNull String key, long delta);
+
+    /**
+     * Atomically sets the long value of the connection attribute with the given key for the connected client to the
+     * new value if the current value equals the expected value.
+     *
+     * @param key           The key of the connection attribute.
+     * @param expectedValue The expected current value of the connection attribute.
+     * @param newValue      The new value of the connection attribute.
+     * @return <code>true</code> if the value was updated, <code>false</code> if the connection attribute is not
+     *         present or its current value does not equal the expected value.
+     * @throws IllegalStateException If the value of the connection attribute is not exactly 8 bytes long.
+     * @since 4.54.0
+     */
+    boolean compareAndSet(@NotNull String key, long expectedValue, long newValue);
+
     /**
      * Retrieves all connection attributes for the connected client.
      * <p>
@@ -143,8 +212,49 @@ public interface ConnectionAttributeStore {
      */
     @NotNull Optional<@Immutable ByteBuffer> remove(@NotNull String key);
 
+    /**
+     * Sets the value of the connection attribute with the given attribute key for the connected client.
+     * <p>
+     * Values stored with an attribute key are kept in-memory as object references, they are neither serialized nor
+     * subject to the size limit of binary connection attributes. Stored values should therefore be immutable or thread
+     * safe. They are not visible via the methods that access connection attributes by a string key.
+     *
+     * @param <T>   The type of the value.
+     * @param key   The attribute key of the connection attribute.
+     * @param value The value of the connection attribute.
+     * @throws NullPointerException If the attribute key or the value is null.
+     * @since 4.54.0
+     */
+    <T> void put(@NotNull ConnectionAttributeKey<T> key, @NotNull T value);
+
+    /**
+     * Retrieves the value of the connection attribute with the given attribute key for the connected client.
+     * <p>
+     * In contrast to {@link #get(String)} this method does not allocate any objects.
+     *
+     * @param <T> The type of the value.
+     * @param key The attribute key of the connection attribute.
+     * @return The value of the connection attribute or <code>null</code> if not present.
+     * @throws NullPointerException If the attribute key is null.
+     * @since 4.54.0
+     */
+    <T> @Nullable T get(@NotNull ConnectionAttributeKey<T> key);
+
+    /**
+     * Removes the connection attribute with the given attribute key for the connected client.
+     *
+     * @param <T> The type of the value.
+     * @param key The attribute key of the connection attribute.
+     * @return The value of the removed connection attribute or <code>null</code> if it was not present.
+     * @throws NullPointerException If the attribute key is null.
+     * @since 4.54.0
+     */
+    <T> @Nullable T remove(@NotNull ConnectionAttributeKey<T> key);
+
     /**
      * Clears all connection attributes for the connected client.
+     * <p>
+     * This includes the connection attributes stored with a {@link ConnectionAttributeKey}.
      *
      * @since 4.0.0, CE 2019.1
      */
@@ -19,6 +19,7 @@ package com.hivemq.extension.sdk.api.client.parameter;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.packets.general.MqttVersion;
+import com.hivemq.extension.sdk.api.services.session.SessionAttributeStore;
 
 import java.net.InetAddress;
 import java.util.Optional;
@@ -72,6 +73,18 @@ public interface ConnectionInformation {
      */
     @NotNull ConnectionAttributeStore getConnectionAttributeStore();
 
+    /**
+     * A store where client specific information can be stored for the duration of the client session. In contrast to
+     * the {@link ConnectionAttributeStore} its content survives reconnects of the client.
+     * <p>
+     * The store provides synchronous access to the session attributes of this connected client. During the
+     * authentication of a client that connects with a clean start, the store is empty.
+     *
+     * @return The {@link SessionAttributeStore} of the client.
+     * @since 4.54.0
+     */
+    @NotNull SessionAttributeStore getSessionAttributeStore();
+
     /**
      * Information about TLS, should the client be connected to HiveMQ via an TLS listener. This information is only
      * present if the client connected with mutual TLS.
@@ -25,6 +25,7 @@ import com.hivemq.extension.sdk.api.interceptor.connack.ConnackOutboundIntercept
 import com.hivemq.extension.sdk.api.packets.connack.ModifiableConnackPacket;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link ConnackOutboundInterceptor} providing methods to define the outcome of
@@ -76,4 +77,29 @@ public interface ConnackOutboundOutput extends AsyncOutput<ConnackOutboundOutput
      */
     @Override
     @NotNull Async<ConnackOutboundOutput> async(@NotNull Duration timeout);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration, TimeoutFallback)} had expired with the same fallback.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback fallback);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration)} had expired.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(@NotNull CompletionStage<?> completionStage, @NotNull Duration timeout);
 }
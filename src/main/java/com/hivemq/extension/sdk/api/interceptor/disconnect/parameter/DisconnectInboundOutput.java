@@ -24,6 +24,7 @@ import com.hivemq.extension.sdk.api.interceptor.disconnect.DisconnectInboundInte
 import com.hivemq.extension.sdk.api.packets.disconnect.ModifiableInboundDisconnectPacket;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link DisconnectInboundInterceptor} providing methods to define the outcome of a
@@ -55,4 +56,15 @@ public interface DisconnectInboundOutput extends SimpleAsyncOutput<DisconnectInb
      * @since 4.3.0, CE 2020.1
      */
     @NotNull Async<DisconnectInboundOutput> async(@NotNull Duration timeout);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration)} had expired.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(@NotNull CompletionStage<?> completionStage, @NotNull Duration timeout);
 }
@@ -24,6 +24,7 @@ import com.hivemq.extension.sdk.api.interceptor.disconnect.DisconnectOutboundInt
 import com.hivemq.extension.sdk.api.packets.disconnect.ModifiableOutboundDisconnectPacket;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link DisconnectOutboundInterceptor} providing methods to define the outcome of
@@ -55,4 +56,15 @@ public interface DisconnectOutboundOutput extends SimpleAsyncOutput<DisconnectOu
      * @since 4.3.0, CE 2020.1
      */
     @NotNull Async<DisconnectOutboundOutput> async(@NotNull Duration timeout);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration)} had expired.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(@NotNull CompletionStage<?> completionStage, @NotNull Duration timeout);
 }
@@ -25,6 +25,7 @@ import com.hivemq.extension.sdk.api.packets.puback.ModifiablePubackPacket;
 import com.hivemq.extension.sdk.api.packets.puback.PubackPacket;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link PubackOutboundInterceptor}.
@@ -56,4 +57,15 @@ public interface PubackOutboundOutput extends SimpleAsyncOutput<PubackOutboundOu
      */
     @Override
     @NotNull Async<PubackOutboundOutput> async(@NotNull Duration timeout);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration)} had expired.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(@NotNull CompletionStage<?> completionStage, @NotNull Duration timeout);
 }
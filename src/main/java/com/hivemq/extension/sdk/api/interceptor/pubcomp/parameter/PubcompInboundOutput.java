@@ -25,6 +25,7 @@ import com.hivemq.extension.sdk.api.packets.pubcomp.ModifiablePubcompPacket;
 import com.hivemq.extension.sdk.api.packets.pubcomp.PubcompPacket;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link PubcompInboundInterceptor}.
@@ -56,4 +57,15 @@ public interface PubcompInboundOutput extends SimpleAsyncOutput<PubcompInboundOu
      */
     @Override
     @NotNull Async<PubcompInboundOutput> async(@NotNull Duration timeout);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration)} had expired.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(@NotNull CompletionStage<?> completionStage, @NotNull Duration timeout);
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.interceptor.publish;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.interceptor.Interceptor;
+import com.hivemq.extension.sdk.api.interceptor.publish.parameter.PublishInboundBatchInput;
+import com.hivemq.extension.sdk.api.interceptor.publish.parameter.PublishInboundBatchOutput;
+import com.hivemq.extension.sdk.api.services.interceptor.GlobalInterceptorRegistry;
+
+import java.time.Duration;
+
+/**
+ * Interface for the batched publish inbound interception.
+ * <p>
+ * Instead of being called once per PUBLISH packet like the {@link PublishInboundInterceptor}, a batch interceptor
+ * receives a bounded list of inbound PUBLISH packets and decides the outcome for all of them at once. This allows to
+ * combine lookups, for example to an enrichment or validation service, for multiple PUBLISH packets.
+ * <p>
+ * A batch can contain PUBLISH packets of different clients and multiple PUBLISH packets of the same client. The PUBLISH
+ * packets of the same client are always contained in the order they arrived.
+ * <p>
+ * To keep the order per client, at most one batch containing PUBLISH packets of a client is in progress at the same
+ * time. PUBLISH packets of a client that arrive while a batch with PUBLISH packets of that client is in progress are
+ * held back and collected for the next batch. The next batch that contains PUBLISH packets of that client is only
+ * passed to the interceptor after the previous one has been completed. For held back PUBLISH packets the maximum delay
+ * starts when the previous batch has been completed, not when the PUBLISH packets arrived. For a client that sends
+ * continuously, each batch therefore contains all PUBLISH packets of the client that arrived while the previous batch
+ * was in progress, up to the maximum batch size.
+ * <p>
+ * The interceptor can be called in different Threads and must therefore be thread-safe.
+ *
+ * @see GlobalInterceptorRegistry#addPublishInboundBatchInterceptor(PublishInboundBatchInterceptor, int, Duration)
+ * @since 4.54.0
+ */
+@FunctionalInterface
+public interface PublishInboundBatchInterceptor extends Interceptor {
+
+    /**
+     * When a {@link PublishInboundBatchInterceptor} is added through any extension, this method gets called for every
+     * batch of inbound PUBLISH packets from any MQTT clients.
+     * <p>
+     * A batch is passed to the interceptor as soon as either the maximum batch size is reached or the maximum delay of
+     * the first PUBLISH packet in the batch has expired.
+     *
+     * @param publishInboundBatchInput  The {@link PublishInboundBatchInput} parameter.
+     * @param publishInboundBatchOutput The {@link PublishInboundBatchOutput} parameter.
+     * @since 4.54.0
+     */
+    void onInboundPublishBatch(
+            @NotNull PublishInboundBatchInput publishInboundBatchInput,
+            @NotNull PublishInboundBatchOutput publishInboundBatchOutput);
+}
@@ -20,6 +20,8 @@ import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.interceptor.Interceptor;
 import com.hivemq.extension.sdk.api.interceptor.publish.parameter.PublishInboundInput;
 import com.hivemq.extension.sdk.api.interceptor.publish.parameter.PublishInboundOutput;
+import com.hivemq.extension.sdk.api.packets.publish.ModifiablePublishPacket;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
 
 /**
  * Interface for the publish inbound interception.
@@ -50,4 +52,25 @@ public interface PublishInboundInterceptor extends Interceptor {
      */
     void onInboundPublish(
             @NotNull PublishInboundInput publishInboundInput, @NotNull PublishInboundOutput publishInboundOutput);
+
+    /**
+     * Declares whether this interceptor reads the payload of the intercepted inbound PUBLISH packets.
+     * <p>
+     * If <code>false</code> is returned, HiveMQ does not need to provide the payload to this interceptor. The payload
+     * is then neither copied nor retained for the {@link PublishInboundInput}. In this mode
+     * {@link PublishPacket#getPayload()} throws an {@link UnsupportedOperationException} when called on the packet of
+     * the {@link PublishInboundInput} or on the packet of the {@link PublishInboundOutput}. The payload can still be
+     * replaced via {@link ModifiablePublishPacket#setPayload(java.nio.ByteBuffer)}, after that
+     * <code>getPayload()</code> of the output packet returns the new payload. If the payload is not replaced, the
+     * original payload is delivered unchanged.
+     * <p>
+     * This method is only evaluated once when the interceptor is added. The default implementation returns
+     * <code>true</code>.
+     *
+     * @return <code>true</code> if the payload is read by this interceptor, else <code>false</code>.
+     * @since 4.54.0
+     */
+    default boolean isPayloadRequired() {
+        return true;
+    }
 }
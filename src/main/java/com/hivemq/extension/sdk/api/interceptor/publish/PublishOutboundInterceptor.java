@@ -20,6 +20,8 @@ import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.interceptor.Interceptor;
 import com.hivemq.extension.sdk.api.interceptor.publish.parameter.PublishOutboundInput;
 import com.hivemq.extension.sdk.api.interceptor.publish.parameter.PublishOutboundOutput;
+import com.hivemq.extension.sdk.api.packets.publish.ModifiableOutboundPublish;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
 
 /**
  * Interface for the publish outbound interception.
@@ -49,4 +51,25 @@ public interface PublishOutboundInterceptor extends Interceptor {
      */
     void onOutboundPublish(
             @NotNull PublishOutboundInput publishOutboundInput, @NotNull PublishOutboundOutput publishOutboundOutput);
+
+    /**
+     * Declares whether this interceptor reads the payload of the intercepted outbound PUBLISH packets.
+     * <p>
+     * If <code>false</code> is returned, HiveMQ does not need to provide the payload to this interceptor. The payload
+     * is then neither copied nor retained for the {@link PublishOutboundInput}. In this mode
+     * {@link PublishPacket#getPayload()} throws an {@link UnsupportedOperationException} when called on the packet of
+     * the {@link PublishOutboundInput} or on the packet of the {@link PublishOutboundOutput}. The payload can still be
+     * replaced via {@link ModifiableOutboundPublish#setPayload(java.nio.ByteBuffer)}, after that
+     * <code>getPayload()</code> of the output packet returns the new payload. If the payload is not replaced, the
+     * original payload is delivered unchanged.
+     * <p>
+     * This method is only evaluated once when the interceptor is added. The default implementation returns
+     * <code>true</code>.
+     *
+     * @return <code>true</code> if the payload is read by this interceptor, else <code>false</code>.
+     * @since 4.54.0
+     */
+    default boolean isPayloadRequired() {
+        return true;
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.interceptor.publish.parameter;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.interceptor.publish.PublishInboundBatchInterceptor;
+
+import java.util.List;
+
+/**
+ * This is the input parameter of any {@link PublishInboundBatchInterceptor} providing the PUBLISH, connection and
+ * client based information for every PUBLISH packet of the batch.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PublishInboundBatchInput {
+
+    /**
+     * The inputs for the intercepted PUBLISH packets of this batch.
+     * <p>
+     * The list is never empty and never contains more entries than the maximum batch size the interceptor was added
+     * with. The index of an input in this list is the index used to define its outcome in the
+     * {@link PublishInboundBatchOutput}.
+     *
+     * @return An unmodifiable list of {@link PublishInboundInput}s.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull List<@NotNull PublishInboundInput> getPublishInboundInputs();
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.interceptor.publish.parameter;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.Nullable;
+import com.hivemq.extension.sdk.api.async.Async;
+import com.hivemq.extension.sdk.api.async.AsyncOutput;
+import com.hivemq.extension.sdk.api.async.TimeoutFallback;
+import com.hivemq.extension.sdk.api.interceptor.publish.PublishInboundBatchInterceptor;
+import com.hivemq.extension.sdk.api.packets.publish.AckReasonCode;
+import com.hivemq.extension.sdk.api.packets.publish.ModifiablePublishPacket;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * This is the output parameter of any {@link PublishInboundBatchInterceptor} providing methods to define the outcome
+ * of the interception for every PUBLISH packet of the batch.
+ * <p>
+ * The PUBLISH packets are addressed by their index in {@link PublishInboundBatchInput#getPublishInboundInputs()}.
+ * <p>
+ * It can be used to
+ * <ul>
+ *   <li>Modify an inbound PUBLISH packet of the batch
+ *   <li>Prevent delivery of an inbound PUBLISH packet of the batch
+ * </ul>
+ * <p>
+ * The delivery of each PUBLISH packet may only be prevented once. Subsequent calls for the same index will fail with
+ * an {@link UnsupportedOperationException}.
+ * <p>
+ * An async operation always applies to the whole batch.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PublishInboundBatchOutput extends AsyncOutput<PublishInboundBatchOutput> {
+
+    /**
+     * Use this object to make any changes to the inbound PUBLISH at the given index.
+     *
+     * @param index The index of the PUBLISH packet in the batch.
+     * @return A modifiable publish packet.
+     * @throws IndexOutOfBoundsException If the index is out of range of the batch.
+     * @since 4.54.0
+     */
+    @NotNull ModifiablePublishPacket getPublishPacket(int index);
+
+    /**
+     * Prevent the onward delivery of the PUBLISH packet at the given index with reason code
+     * {@link AckReasonCode#SUCCESS} for the PUBACK/PUBREC.
+     *
+     * @param index The index of the PUBLISH packet in the batch.
+     * @throws IndexOutOfBoundsException     If the index is out of range of the batch.
+     * @throws UnsupportedOperationException When preventPublishDelivery is called more than once for the index.
+     * @since 4.54.0
+     */
+    void preventPublishDelivery(int index);
+
+    /**
+     * Prevent the onward delivery of the PUBLISH packet at the given index with <code>reasonCode</code> set as reason
+     * code in the PUBACK/PUBREC.
+     *
+     * @param index      The index of the PUBLISH packet in the batch.
+     * @param reasonCode The reason code to sent in PUBACK/PUBREC.
+     * @throws IndexOutOfBoundsException     If the index is out of range of the batch.
+     * @throws UnsupportedOperationException When preventPublishDelivery is called more than once for the index.
+     * @since 4.54.0
+     */
+    void preventPublishDelivery(int index, @NotNull AckReasonCode reasonCode);
+
+    /**
+     * Prevent the onward delivery of the PUBLISH packet at the given index with <code>reasonCode</code> and
+     * <code>reasonString</code> set as reason code and reason string in the PUBACK/PUBREC respectively.
+     *
+     * @param index        The index of the PUBLISH packet in the batch.
+     * @param reasonCode   The reason code to sent in PUBACK/PUBREC.
+     * @param reasonString The reason string to sent in PUBACK/PUBREC.
+     * @throws IndexOutOfBoundsException     If the index is out of range of the batch.
+     * @throws UnsupportedOperationException When preventPublishDelivery is called more than once for the index.
+     * @since 4.54.0
+     */
+    void preventPublishDelivery(int index, @NotNull AckReasonCode reasonCode, @Nullable String reasonString);
+
+    /**
+     * If the timeout is expired before {@link Async#resume()} is called then the outcome is handled either as failed or
+     * successful for all PUBLISH packets of the batch, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param timeout         Timeout that HiveMQ waits for the result of the async operation.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs.
+     *                        <p>
+     *                        If the fallback is SUCCESS then all publishes, whose delivery was not prevented, will be
+     *                        delivered.
+     *                        <p>
+     *                        If the fallback is FAILURE then all publishes will be dropped.
+     * @param reasonCode      The reason code sent in PUBACK/PUBREC when timeout occurs.
+     * @param reasonString    The reason string sent in PUBACK/PUBREC when timeout occurs.
+     * @return An {@link Async} object, containing the {@link PublishInboundBatchOutput}.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    @NotNull Async<PublishInboundBatchOutput> async(
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull AckReasonCode reasonCode,
+            @Nullable String reasonString);
+
+    /**
+     * If the timeout is expired before {@link Async#resume()} is called then the outcome is handled either as failed or
+     * successful for all PUBLISH packets of the batch, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param timeout         Timeout that HiveMQ waits for the result of the async operation.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs.
+     *                        <p>
+     *                        If the fallback is SUCCESS then all publishes, whose delivery was not prevented, will be
+     *                        delivered.
+     *                        <p>
+     *                        If the fallback is FAILURE then all publishes will be dropped.
+     * @param reasonCode      The reason code sent in PUBACK/PUBREC when timeout occurs.
+     * @return An {@link Async} object, containing the {@link PublishInboundBatchOutput}.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    @NotNull Async<PublishInboundBatchOutput> async(
+            @NotNull Duration timeout, @NotNull TimeoutFallback timeoutFallback, @NotNull AckReasonCode reasonCode);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration, TimeoutFallback)} had expired with the same fallback, for all PUBLISH packets
+     * of the batch. If the fallback is FAILURE, the PUBLISH packets are dropped with the same reason code as for
+     * {@link #preventPublishDelivery(int)}. To set a reason code and reason string use
+     * {@link #async(CompletionStage, Duration, TimeoutFallback, AckReasonCode, String)}.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback fallback);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful for all PUBLISH packets of the batch,
+     * depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        If the fallback is SUCCESS then all publishes, whose delivery was not prevented, will be
+     *                        delivered.
+     *                        <p>
+     *                        If the fallback is FAILURE then all publishes will be dropped.
+     * @param reasonCode      The reason code sent in PUBACK/PUBREC when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull AckReasonCode reasonCode);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful for all PUBLISH packets of the batch,
+     * depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        If the fallback is SUCCESS then all publishes, whose delivery was not prevented, will be
+     *                        delivered.
+     *                        <p>
+     *                        If the fallback is FAILURE then all publishes will be dropped.
+     * @param reasonCode      The reason code sent in PUBACK/PUBREC when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @param reasonString    The reason string sent in PUBACK/PUBREC when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull AckReasonCode reasonCode,
+            @Nullable String reasonString);
+}
@@ -27,6 +27,7 @@ import com.hivemq.extension.sdk.api.packets.publish.AckReasonCode;
 import com.hivemq.extension.sdk.api.packets.publish.ModifiablePublishPacket;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link PublishInboundInterceptor} providing methods to define the outcome of
@@ -130,4 +131,78 @@ public interface PublishInboundOutput extends AsyncOutput<PublishInboundOutput>
      */
     @NotNull Async<PublishInboundOutput> async(
             @NotNull Duration timeout, @NotNull TimeoutFallback timeoutFallback, @NotNull AckReasonCode reasonCode);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration, TimeoutFallback)} had expired with the same fallback. If the fallback is
+     * FAILURE, the PUBLISH packet is dropped with the same reason code as for {@link #preventPublishDelivery()}. To set
+     * a reason code and reason string use
+     * {@link #async(CompletionStage, Duration, TimeoutFallback, AckReasonCode, String)}.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback fallback);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        If the fallback is SUCCESS then the publish will be delivered.
+     *                        <p>
+     *                        If the fallback is FAILURE then the publish will be dropped.
+     * @param reasonCode      The reason code sent in PUBACK/PUBREC when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull AckReasonCode reasonCode);
+
+    /**
+     * Processes the output as soon as the given {@link CompletionStage} is completed, without requiring an
+     * {@link Async} object and a call to {@link Async#resume()}.
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired before the completion stage is
+     * completed then the outcome is handled either as failed or successful, depending on the specified fallback.
+     * <p>
+     * Do not call this method more than once. If an async method is called multiple times an exception is thrown.
+     *
+     * @param completionStage The completion stage that signals that the async operation is done.
+     * @param timeout         Timeout that HiveMQ waits for the completion of the completion stage.
+     * @param timeoutFallback Fallback behaviour if a timeout occurs or the completion stage is completed exceptionally.
+     *                        <p>
+     *                        If the fallback is SUCCESS then the publish will be delivered.
+     *                        <p>
+     *                        If the fallback is FAILURE then the publish will be dropped.
+     * @param reasonCode      The reason code sent in PUBACK/PUBREC when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @param reasonString    The reason string sent in PUBACK/PUBREC when the completion stage is completed
+     *                        exceptionally or the timeout occurs.
+     * @throws UnsupportedOperationException If async is called more than once.
+     * @since 4.54.0
+     */
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback timeoutFallback,
+            @NotNull AckReasonCode reasonCode,
+            @Nullable String reasonString);
 }
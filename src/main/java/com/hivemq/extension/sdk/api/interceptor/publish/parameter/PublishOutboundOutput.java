@@ -25,6 +25,7 @@ import com.hivemq.extension.sdk.api.interceptor.publish.PublishOutboundIntercept
 import com.hivemq.extension.sdk.api.packets.publish.ModifiableOutboundPublish;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link PublishOutboundInterceptor} providing methods to define the outcome of
@@ -72,4 +73,19 @@ public interface PublishOutboundOutput extends AsyncOutput<PublishOutboundOutput
      * @since 4.2.0, CE 2020.1
      */
     @NotNull Async<PublishOutboundOutput> async(@NotNull Duration timeout, @NotNull TimeoutFallback timeoutFallback);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration, TimeoutFallback)} had expired with the same fallback. If the fallback is
+     * SUCCESS then the publish will be delivered. If the fallback is FAILURE then the publish will be dropped.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(
+            @NotNull CompletionStage<?> completionStage,
+            @NotNull Duration timeout,
+            @NotNull TimeoutFallback fallback);
 }
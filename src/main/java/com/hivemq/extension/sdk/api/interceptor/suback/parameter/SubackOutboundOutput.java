@@ -24,6 +24,7 @@ import com.hivemq.extension.sdk.api.interceptor.suback.SubackOutboundInterceptor
 import com.hivemq.extension.sdk.api.packets.suback.ModifiableSubackPacket;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This is the output parameter of any {@link SubackOutboundInterceptor} providing methods to modify a SUBACK packet
@@ -56,4 +57,15 @@ public interface SubackOutboundOutput extends SimpleAsyncOutput<SubackOutboundOu
      */
     @Override
     @NotNull Async<SubackOutboundOutput> async(@NotNull Duration timeout);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the completion stage is completed exceptionally or the timeout is expired, the outcome is the same as if the
+     * timeout of {@link #async(Duration)} had expired.
+     *
+     * @since 4.54.0
+     */
+    @Override
+    void async(@NotNull CompletionStage<?> completionStage, @NotNull Duration timeout);
 }
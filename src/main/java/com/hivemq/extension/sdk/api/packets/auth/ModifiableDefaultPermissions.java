@@ -19,6 +19,7 @@ package com.hivemq.extension.sdk.api.packets.auth;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.auth.Authorizer;
+import com.hivemq.extension.sdk.api.auth.parameter.PermissionSet;
 import com.hivemq.extension.sdk.api.auth.parameter.TopicPermission;
 import com.hivemq.extension.sdk.api.services.builder.Builders;
 import com.hivemq.extension.sdk.api.services.exception.DoNotImplementException;
@@ -30,6 +31,11 @@ import java.util.List;
  * Default permissions enable the authorization of PUBLISH/Subscriptions if no {@link Authorizer} is used.
  * <p>
  * The default permissions can be different for each client.
+ * <p>
+ * Topic permissions that are the same for many clients should be added as a shared {@link PermissionSet} via
+ * {@link #addPermissionSet(PermissionSet)} instead of adding the individual topic permissions to every client.
+ * Individually added topic permissions are evaluated before the permission sets, the permission sets are evaluated in
+ * the order they were added.
  *
  * @author Christoph Schäbel
  * @since 4.0.0, CE 2019.1
@@ -38,8 +44,12 @@ public interface ModifiableDefaultPermissions {
 
     /**
      * All default permissions for this client.
+     * <p>
+     * The list only contains the individually added topic permissions, the topic permissions of added
+     * {@link PermissionSet}s are not included. Use {@link #getPermissionSets()} to check whether permission sets were
+     * added, an empty list does not mean that no default permissions are present.
      *
-     * @return An immutable {@link List} with all default permissions for this client.
+     * @return An immutable {@link List} with all individually added default permissions for this client.
      * @since 4.0.0, CE 2019.1
      */
     @Immutable @NotNull List<@NotNull TopicPermission> asList();
@@ -75,8 +85,48 @@ public interface ModifiableDefaultPermissions {
      */
     void remove(@NotNull TopicPermission permission);
 
+    /**
+     * Adds a shared {@link PermissionSet} to the default permissions for this client.
+     * <p>
+     * Only a reference to the permission set is kept for this client. Subsequent adding of the same permission set
+     * will be ignored. The topic permissions of the permission set are not included in {@link #asList()}.
+     * <p>
+     * Adding a permission set counts as adding permissions: if the default behaviour was not overridden with
+     * {@link #setDefaultBehaviour(DefaultAuthorizationBehaviour)}, it changes from
+     * {@link DefaultAuthorizationBehaviour#ALLOW} to {@link DefaultAuthorizationBehaviour#DENY}. This also applies if
+     * the permission set does not contain any topic permissions.
+     *
+     * @param permissionSet The {@link PermissionSet} to add.
+     * @throws NullPointerException    If the permission set is null.
+     * @throws DoNotImplementException If {@link PermissionSet} is implemented by the extension and not created by
+     *                                 {@link Builders#permissionSet()}.
+     * @since 4.54.0
+     */
+    void addPermissionSet(@NotNull PermissionSet permissionSet);
+
+    /**
+     * Removes a {@link PermissionSet} from the default permissions for this client.
+     * <p>
+     * Nothing happens if the permission set that should be removed, has not been added in the first place.
+     *
+     * @param permissionSet The {@link PermissionSet} to remove.
+     * @throws NullPointerException If the permission set is null.
+     * @since 4.54.0
+     */
+    void removePermissionSet(@NotNull PermissionSet permissionSet);
+
+    /**
+     * All permission sets that were added to the default permissions for this client.
+     *
+     * @return An immutable {@link List} with all permission sets for this client in the order they were added.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull List<@NotNull PermissionSet> getPermissionSets();
+
     /**
      * Removes all {@link TopicPermission} for this client.
+     * <p>
+     * This also removes all {@link PermissionSet}s for this client.
      *
      * @since 4.0.0, CE 2019.1
      */
@@ -85,6 +135,11 @@ public interface ModifiableDefaultPermissions {
     /**
      * The default behaviour that is used when none of the default permissions matches a PUBLISH topic or a topic filter
      * from a Subscription.
+     * <p>
+     * If the default behaviour was not overridden with {@link #setDefaultBehaviour(DefaultAuthorizationBehaviour)},
+     * it is {@link DefaultAuthorizationBehaviour#ALLOW} if neither topic permissions nor permission sets are added and
+     * {@link DefaultAuthorizationBehaviour#DENY} if at least one topic permission or permission set is added, also if
+     * the permission set does not contain any topic permissions.
      *
      * @return The current {@link DefaultAuthorizationBehaviour}.
      * @since 4.0.0, CE 2019.1
@@ -96,10 +151,10 @@ public interface ModifiableDefaultPermissions {
      * topic filter from a Subscription.
      * <p>
      * Defaults to {@link DefaultAuthorizationBehaviour#ALLOW} if no permissions are added, defaults to
-     * {@link DefaultAuthorizationBehaviour#DENY} if permissions are added.
+     * {@link DefaultAuthorizationBehaviour#DENY} if topic permissions or permission sets are added.
      * <p>
      * If the value is overridden with this method, the value does not change automatically on
-     * {@link #add(TopicPermission)} or {@link #addAll(Collection)}.
+     * {@link #add(TopicPermission)}, {@link #addAll(Collection)} or {@link #addPermissionSet(PermissionSet)}.
      *
      * @param defaultBehaviour The default behaviour to use.
      * @since 4.0.0, CE 2019.1
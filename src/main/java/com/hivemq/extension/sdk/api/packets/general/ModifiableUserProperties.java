@@ -20,6 +20,7 @@ import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.services.exception.DoNotImplementException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -57,6 +58,35 @@ public interface ModifiableUserProperties extends UserProperties {
      */
     void addUserProperty(@NotNull String name, @NotNull String value);
 
+    /**
+     * Add new {@link UserProperty}s.
+     * <p>
+     * The user properties are validated and added in a single pass.
+     *
+     * @param userProperties The user properties to add.
+     * @throws NullPointerException     If the collection or any of the user properties is null.
+     * @throws IllegalArgumentException If any user property's name or value is not a valid UTF-8 string.
+     * @throws IllegalArgumentException If any user property's name or value exceeds the UTF-8 string length limit.
+     * @throws DoNotImplementException  If any {@link UserProperty} is implemented by the extension.
+     * @since 4.54.0
+     */
+    void addAll(@NotNull Collection<? extends @NotNull UserProperty> userProperties);
+
+    /**
+     * Replace every {@link UserProperty} with the specified name by user properties with the specified values.
+     * <p>
+     * If no values are specified, every user property with the specified name is removed.
+     *
+     * @param name   The name of the user properties to replace.
+     * @param values The values of the new user properties.
+     * @return A list of the replaced user properties.
+     * @throws NullPointerException     If the name, the collection or any of the values is null.
+     * @throws IllegalArgumentException If the name or any value is not a valid UTF-8 string.
+     * @throws IllegalArgumentException If the name or any value exceeds the UTF-8 string length limit.
+     * @since 4.54.0
+     */
+    @NotNull List<@NotNull UserProperty> replaceAll(@NotNull String name, @NotNull Collection<@NotNull String> values);
+
     /**
      * Remove a {@link UserProperty}.
      *
@@ -87,4 +117,12 @@ public interface ModifiableUserProperties extends UserProperties {
      * @since 4.0.0, CE 2019.1
      */
     void clear();
+
+    /**
+     * Creates a {@link UserPropertiesBatch} to apply multiple modifications to these user properties in a single pass.
+     *
+     * @return A new {@link UserPropertiesBatch} for these user properties.
+     * @since 4.54.0
+     */
+    @NotNull UserPropertiesBatch batch();
 }
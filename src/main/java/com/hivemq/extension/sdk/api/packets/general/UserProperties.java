@@ -19,12 +19,20 @@ package com.hivemq.extension.sdk.api.packets.general;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.Nullable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * The user properties of an MQTT packet.
+ * <p>
+ * The user properties are indexed by name, lookups by name via {@link #getFirst(String)},
+ * {@link #getFirstOrDefault(String, String)} and {@link #getAllForName(String)} take constant time regardless of the
+ * amount of user properties. {@link #getFirstOrDefault(String, String)} and {@link #forEach(BiConsumer)} do not
+ * allocate any objects.
  *
  * @author Christoph Schäbel
  * @author Florian Limpöck
@@ -40,6 +48,16 @@ public interface UserProperties {
      */
     @NotNull Optional<String> getFirst(@NotNull String name);
 
+    /**
+     * In contrast to {@link #getFirst(String)} this method does not allocate an {@link Optional}.
+     *
+     * @param name         The name of the user property to get.
+     * @param defaultValue The value to return if no user property with the specified name is present.
+     * @return The value of the first user property with the specified name or the default value if not present.
+     * @since 4.54.0
+     */
+    @Nullable String getFirstOrDefault(@NotNull String name, @Nullable String defaultValue);
+
     /**
      * @param name The name of the user properties to get.
      * @return The values user property with the specified name.
@@ -53,6 +71,33 @@ public interface UserProperties {
      */
     @Immutable @NotNull List<@NotNull UserProperty> asList();
 
+    /**
+     * Returns a snapshot of the user properties as a multi-map.
+     * <p>
+     * The map contains every user property name once, mapped to the values of all user properties with this name. The
+     * names and the values are in the order in which they occur in {@link #asList()}. The returned map does not reflect
+     * later modifications of {@link ModifiableUserProperties}.
+     * <p>
+     * The snapshot is created on the first call and reused by subsequent calls as long as the user properties are not
+     * modified. Creating it allocates the map and one list per distinct name, so prefer
+     * {@link #getFirstOrDefault(String, String)} or {@link #forEach(BiConsumer)} for allocation free access.
+     *
+     * @return An unmodifiable map of the user property names to their values.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull Map<@NotNull String, @Immutable @NotNull List<@NotNull String>> asMap();
+
+    /**
+     * Performs the given action for the name and value of every user property in the order of {@link #asList()}.
+     * <p>
+     * In contrast to iterating over {@link #asList()} this method does not allocate any objects.
+     *
+     * @param action The action to perform for every user property.
+     * @throws NullPointerException If the action is null.
+     * @since 4.54.0
+     */
+    void forEach(@NotNull BiConsumer<@NotNull String, @NotNull String> action);
+
     /**
      * @return <code>true</code> if no user properties are present, else <code>false</code>.
      * @since 4.0.0, CE 2019.1
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.packets.general;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.services.exception.DoNotImplementException;
+
+import java.util.Collection;
+
+/**
+ * A batch of modifications of {@link ModifiableUserProperties} that is applied in a single pass.
+ * <p>
+ * The modifications are validated when they are added to the batch, but the user properties are only changed when
+ * {@link #apply()} is called. The modifications are then applied in the order they were added to the batch.
+ * <p>
+ * A batch can only be applied once, it must not be used after {@link #apply()} was called.
+ *
+ * @see ModifiableUserProperties#batch()
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface UserPropertiesBatch {
+
+    /**
+     * Add a new {@link UserProperty}.
+     *
+     * @param name  The name of the user property to add.
+     * @param value The value of the user property to add.
+     * @return This {@link UserPropertiesBatch}.
+     * @throws NullPointerException     If the name or value is null.
+     * @throws IllegalArgumentException If the name or value is not a valid UTF-8 string.
+     * @throws IllegalArgumentException If the name or value exceeds the UTF-8 string length limit.
+     * @throws IllegalStateException    If the batch was already applied.
+     * @since 4.54.0
+     */
+    @NotNull UserPropertiesBatch add(@NotNull String name, @NotNull String value);
+
+    /**
+     * Add new {@link UserProperty}s.
+     *
+     * @param userProperties The user properties to add.
+     * @return This {@link UserPropertiesBatch}.
+     * @throws NullPointerException     If the collection or any of the user properties is null.
+     * @throws IllegalArgumentException If any user property's name or value is not a valid UTF-8 string.
+     * @throws IllegalArgumentException If any user property's name or value exceeds the UTF-8 string length limit.
+     * @throws DoNotImplementException  If any {@link UserProperty} is implemented by the extension.
+     * @throws IllegalStateException    If the batch was already applied.
+     * @since 4.54.0
+     */
+    @NotNull UserPropertiesBatch addAll(@NotNull Collection<? extends @NotNull UserProperty> userProperties);
+
+    /**
+     * Remove a {@link UserProperty}.
+     *
+     * @param name  The name of the user property to remove.
+     * @param value The value of the user property to remove.
+     * @return This {@link UserPropertiesBatch}.
+     * @throws NullPointerException     If the name or value is null.
+     * @throws IllegalArgumentException If the name or value is not a valid UTF-8 string.
+     * @throws IllegalArgumentException If the name or value exceeds the UTF-8 string length limit.
+     * @throws IllegalStateException    If the batch was already applied.
+     * @since 4.54.0
+     */
+    @NotNull UserPropertiesBatch remove(@NotNull String name, @NotNull String value);
+
+    /**
+     * Remove every {@link UserProperty} with the specified name.
+     *
+     * @param name The name of the user properties to remove.
+     * @return This {@link UserPropertiesBatch}.
+     * @throws NullPointerException     If the name is null.
+     * @throws IllegalArgumentException If the name is not a valid UTF-8 string.
+     * @throws IllegalArgumentException If the name exceeds the UTF-8 string length limit.
+     * @throws IllegalStateException    If the batch was already applied.
+     * @since 4.54.0
+     */
+    @NotNull UserPropertiesBatch removeName(@NotNull String name);
+
+    /**
+     * Replace every {@link UserProperty} with the specified name by user properties with the specified values.
+     *
+     * @param name   The name of the user properties to replace.
+     * @param values The values of the new user properties.
+     * @return This {@link UserPropertiesBatch}.
+     * @throws NullPointerException     If the name, the collection or any of the values is null.
+     * @throws IllegalArgumentException If the name or any value is not a valid UTF-8 string.
+     * @throws IllegalArgumentException If the name or any value exceeds the UTF-8 string length limit.
+     * @throws IllegalStateException    If the batch was already applied.
+     * @since 4.54.0
+     */
+    @NotNull UserPropertiesBatch replaceAll(@NotNull String name, @NotNull Collection<@NotNull String> values);
+
+    /**
+     * Removes all user properties.
+     *
+     * @return This {@link UserPropertiesBatch}.
+     * @throws IllegalStateException If the batch was already applied.
+     * @since 4.54.0
+     */
+    @NotNull UserPropertiesBatch clear();
+
+    /**
+     * Applies all modifications of this batch to the {@link ModifiableUserProperties} in a single pass.
+     *
+     * @throws IllegalStateException If the batch was already applied.
+     * @since 4.54.0
+     */
+    void apply();
+}
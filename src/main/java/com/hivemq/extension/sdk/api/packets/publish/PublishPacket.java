@@ -148,8 +148,25 @@ public interface PublishPacket {
      * <p>
      * The ByteBuffer returned by this method is {@link ByteBuffer#asReadOnlyBuffer() read only} and will throw a
      * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} if handled incorrectly.
+     * <p>
+     * If this PUBLISH packet is passed to a
+     * {@link com.hivemq.extension.sdk.api.interceptor.publish.PublishInboundInterceptor PublishInboundInterceptor} or
+     * {@link com.hivemq.extension.sdk.api.interceptor.publish.PublishOutboundInterceptor PublishOutboundInterceptor},
+     * the payload is accessed lazily, it is only provided when this method is called. Each call returns a new read only
+     * view of the same payload content without copying the payload bytes.
+     * <p>
+     * If the interceptor's <code>isPayloadRequired()</code> method returns <code>false</code>, the payload is not
+     * available to it. In this case this method always throws an {@link UnsupportedOperationException}, both for the
+     * packet of the input and for the modifiable packet of the output, unless a new payload was set on the modifiable
+     * packet. Then the new payload is returned. The packet can still be passed to the <code>fromPublish</code> methods
+     * of the {@link com.hivemq.extension.sdk.api.services.builder.PublishBuilder PublishBuilder},
+     * {@link com.hivemq.extension.sdk.api.services.builder.RetainedPublishBuilder RetainedPublishBuilder} and
+     * {@link com.hivemq.extension.sdk.api.services.builder.WillPublishBuilder WillPublishBuilder}, they copy the
+     * payload internally.
      *
      * @return An {@link Optional} that contains the payload if present.
+     * @throws UnsupportedOperationException If this packet is passed to a PUBLISH interceptor that declared that it
+     *                                       does not require the payload and no new payload was set.
      * @since 4.0.0, CE 2019.1
      */
     @NotNull Optional<@Immutable ByteBuffer> getPayload();
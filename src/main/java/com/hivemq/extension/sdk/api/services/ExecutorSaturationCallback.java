@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+/**
+ * A callback that is notified when the {@link ManagedExtensionExecutorService} is saturated for an extension.
+ *
+ * @see ManagedExtensionExecutorService#setSaturationCallback(int, ExecutorSaturationCallback)
+ * @since 4.54.0
+ */
+@FunctionalInterface
+public interface ExecutorSaturationCallback {
+
+    /**
+     * This method is called once when the amount of queued tasks of the extension reaches the configured threshold. It
+     * is called again only after the amount of queued tasks has dropped below the threshold in the meantime.
+     * <p>
+     * The callback is not executed by the {@link ManagedExtensionExecutorService} itself, so it is also called if all
+     * threads of the executor are busy. It must return quickly and must not block.
+     *
+     * @param queuedTasks   The amount of tasks of the extension waiting for execution.
+     * @param activeThreads The amount of threads currently executing tasks of the extension.
+     * @since 4.54.0
+     */
+    void onSaturation(int queuedTasks, int activeThreads);
+}
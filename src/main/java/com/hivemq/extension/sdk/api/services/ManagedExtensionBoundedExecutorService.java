@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A named HiveMQ managed executor with a bounded queue and an explicit {@link RejectionPolicy}.
+ * <p>
+ * Tasks are executed by the threads of the {@link ManagedExtensionExecutorService}, but at most
+ * {@link #getParallelism()} tasks of this executor run at the same time. At most {@link #getCapacity()} further tasks
+ * wait in the queue, tasks submitted while the queue is full are handled according to the
+ * {@link #getRejectionPolicy() rejection policy}. A slow downstream system therefore can not make the queue grow
+ * without bound.
+ * <p>
+ * As specified by {@link ExecutorService}, {@link #execute(Runnable)} and the submit methods throw a
+ * {@link RejectedExecutionException} when a task is rejected. Use {@link #trySubmit(Callable)} to degrade gracefully
+ * without blocking and without exceptions, for example in interceptors.
+ * <p>
+ * The executor is automatically shut down when the extension that created it stops. It can also be shut down manually
+ * when it is no longer needed.
+ *
+ * @see ManagedExtensionExecutorFactory
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface ManagedExtensionBoundedExecutorService extends ExecutorService {
+
+    /**
+     * @return A {@link CompletableFuture} representing pending completion of the task.
+     * @throws RejectedExecutionException If the task is rejected according to the rejection policy or the executor
+     *                                    has been shut down.
+     * @see ExecutorService#submit(Runnable)
+     * @since 4.54.0
+     */
+    @Override
+    @NotNull CompletableFuture<?> submit(@NotNull Runnable task);
+
+    /**
+     * @return A {@link CompletableFuture} representing pending completion of the task.
+     * @throws RejectedExecutionException If the task is rejected according to the rejection policy or the executor
+     *                                    has been shut down.
+     * @see ExecutorService#submit(Callable)
+     * @since 4.54.0
+     */
+    @Override
+    <T> @NotNull CompletableFuture<T> submit(@NotNull Callable<T> task);
+
+    /**
+     * @return A {@link CompletableFuture} representing pending completion of the task.
+     * @throws RejectedExecutionException If the task is rejected according to the rejection policy or the executor
+     *                                    has been shut down.
+     * @see ExecutorService#submit(Runnable, Object)
+     * @since 4.54.0
+     */
+    @Override
+    <T> @NotNull CompletableFuture<T> submit(@NotNull Runnable task, @NotNull T result);
+
+    /**
+     * Submits the task only if it can be queued or executed immediately.
+     * <p>
+     * This method never blocks, never throws a {@link RejectedExecutionException} and never executes the task in the
+     * calling thread, regardless of the rejection policy. It also returns an empty {@link Optional} if the executor has
+     * been shut down.
+     *
+     * @param task The task to execute.
+     * @return An {@link Optional} that contains a {@link CompletableFuture} representing pending completion of the task
+     *         or an empty {@link Optional} if the queue is full or the executor has been shut down.
+     * @throws NullPointerException If the task is null.
+     * @since 4.54.0
+     */
+    @NotNull Optional<CompletableFuture<?>> trySubmit(@NotNull Runnable task);
+
+    /**
+     * Submits the task only if it can be queued or executed immediately.
+     * <p>
+     * This method never blocks, never throws a {@link RejectedExecutionException} and never executes the task in the
+     * calling thread, regardless of the rejection policy. It also returns an empty {@link Optional} if the executor has
+     * been shut down.
+     *
+     * @param <T>  The type of the result of the task.
+     * @param task The task to execute.
+     * @return An {@link Optional} that contains a {@link CompletableFuture} representing pending completion of the task
+     *         or an empty {@link Optional} if the queue is full or the executor has been shut down.
+     * @throws NullPointerException If the task is null.
+     * @since 4.54.0
+     */
+    <T> @NotNull Optional<CompletableFuture<T>> trySubmit(@NotNull Callable<T> task);
+
+    /**
+     * @return The name of this executor.
+     * @since 4.54.0
+     */
+    @NotNull String getName();
+
+    /**
+     * @return The maximum amount of tasks of this executor that run at the same time.
+     * @since 4.54.0
+     */
+    int getParallelism();
+
+    /**
+     * @return The maximum amount of tasks that wait in the queue of this executor.
+     * @since 4.54.0
+     */
+    int getCapacity();
+
+    /**
+     * @return The {@link RejectionPolicy} that is applied if a task is submitted while the queue is full.
+     * @since 4.54.0
+     */
+    @NotNull RejectionPolicy getRejectionPolicy();
+
+    /**
+     * @return The amount of tasks currently waiting in the queue of this executor.
+     * @since 4.54.0
+     */
+    int getQueuedTaskCount();
+}
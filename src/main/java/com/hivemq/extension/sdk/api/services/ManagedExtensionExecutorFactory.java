@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+/**
+ * A service to create additional HiveMQ managed executors for an extension.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface ManagedExtensionExecutorFactory {
+
+    /**
+     * Creates a named {@link ManagedExtensionBoundedExecutorService}.
+     * <p>
+     * If the extension already created an executor with the same name that is not shut down, the existing executor is
+     * returned if it was created with the same parameters.
+     *
+     * @param name            The name of the executor. It is used in thread names and metrics.
+     * @param parallelism     The maximum amount of tasks of the executor that run at the same time.
+     * @param capacity        The maximum amount of tasks that wait in the queue of the executor.
+     * @param rejectionPolicy The {@link RejectionPolicy} that is applied if a task is submitted while the queue is
+     *                        full.
+     * @return The {@link ManagedExtensionBoundedExecutorService}.
+     * @throws NullPointerException     If the name or the rejection policy is null.
+     * @throws IllegalArgumentException If the name is empty.
+     * @throws IllegalArgumentException If the parallelism or the capacity is less than 1.
+     * @throws IllegalArgumentException If an executor with the same name but different parameters already exists.
+     * @since 4.54.0
+     */
+    @NotNull ManagedExtensionBoundedExecutorService createBoundedExecutorService(
+            @NotNull String name, int parallelism, int capacity, @NotNull RejectionPolicy rejectionPolicy);
+}
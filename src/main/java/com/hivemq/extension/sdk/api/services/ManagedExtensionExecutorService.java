@@ -30,6 +30,19 @@ import java.util.concurrent.TimeUnit;
  * creating your own thread(-pool) in your extension.
  * <p>
  * Use this class for all concurrent code.
+ * <p>
+ * The executor publishes the following metrics per extension to the {@link Services#metricRegistry() MetricRegistry},
+ * where <code>{extension-id}</code> is the id of the extension that submitted the tasks:
+ * <ul>
+ *   <li><code>com.hivemq.extensions.{extension-id}.managed-executor.queued-tasks</code>: gauge of the amount of
+ *     tasks waiting for execution
+ *   <li><code>com.hivemq.extensions.{extension-id}.managed-executor.active-threads</code>: gauge of the amount of
+ *     threads currently executing tasks
+ *   <li><code>com.hivemq.extensions.{extension-id}.managed-executor.task-wait-time</code>: timer of the time tasks
+ *     wait in the queue before they are executed
+ *   <li><code>com.hivemq.extensions.{extension-id}.managed-executor.task-run-time</code>: timer of the time tasks
+ *     take to execute
+ * </ul>
  *
  * @author Christoph Schäbel
  * @author Florian Limpöck
@@ -129,4 +142,33 @@ public interface ManagedExtensionExecutorService extends ScheduledExecutorServic
     @Override
     @NotNull CompletableScheduledFuture<?> scheduleWithFixedDelay(
             @NotNull Runnable command, long initialDelay, long delay, @NotNull TimeUnit unit);
+
+    /**
+     * The amount of tasks of this extension that are waiting for execution.
+     *
+     * @return The amount of queued tasks.
+     * @since 4.54.0
+     */
+    int getQueuedTaskCount();
+
+    /**
+     * The amount of threads that are currently executing tasks of this extension.
+     *
+     * @return The amount of active threads.
+     * @since 4.54.0
+     */
+    int getActiveThreadCount();
+
+    /**
+     * Sets a callback that is notified when the amount of queued tasks of this extension reaches the given threshold.
+     * <p>
+     * If there is already a callback present, it will be overwritten.
+     *
+     * @param queuedTasksThreshold The amount of queued tasks at which the executor is considered saturated.
+     * @param callback             The callback to notify.
+     * @throws NullPointerException     If the callback is null.
+     * @throws IllegalArgumentException If the threshold is less than 1.
+     * @since 4.54.0
+     */
+    void setSaturationCallback(int queuedTasksThreshold, @NotNull ExecutorSaturationCallback callback);
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A HiveMQ managed executor which executes tasks in the order they were submitted for the same key.
+ * <p>
+ * Tasks with the same key, for example the client identifier of an MQTT client, are executed one after another in FIFO
+ * order. Tasks with different keys are executed in parallel on the threads of the
+ * {@link ManagedExtensionExecutorService}. A key only occupies a thread while one of its tasks is running, so a key
+ * with many pending tasks does not block the tasks of other keys.
+ * <p>
+ * The amount of pending tasks per key is bounded by {@link #getMaxPendingTasksPerKey()}. If a task is submitted for a
+ * key that already has the maximum amount of pending tasks, the returned {@link CompletableFuture} fails with a
+ * {@link RejectedExecutionException}.
+ * <p>
+ * The Extension Keyed Executor Service is automatically shut down when HiveMQ shuts down.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface ManagedExtensionKeyedExecutorService {
+
+    /**
+     * Submits a task that is executed after all tasks that were previously submitted for the same key.
+     *
+     * @param key  The key that determines the order of execution.
+     * @param task The task to execute.
+     * @return A {@link CompletableFuture} representing pending completion of the task. It fails with a
+     *         {@link RejectedExecutionException} if the maximum amount of pending tasks for the key is exceeded.
+     * @throws NullPointerException If the key or the task is null.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<?> submit(@NotNull String key, @NotNull Runnable task);
+
+    /**
+     * Submits a task that is executed after all tasks that were previously submitted for the same key.
+     *
+     * @param <T>  The type of the result of the task.
+     * @param key  The key that determines the order of execution.
+     * @param task The task to execute.
+     * @return A {@link CompletableFuture} representing pending completion of the task. It fails with a
+     *         {@link RejectedExecutionException} if the maximum amount of pending tasks for the key is exceeded.
+     * @throws NullPointerException If the key or the task is null.
+     * @since 4.54.0
+     */
+    <T> @NotNull CompletableFuture<T> submit(@NotNull String key, @NotNull Callable<T> task);
+
+    /**
+     * The amount of tasks that can be pending for the same key, including the currently running task of the key.
+     *
+     * @return The maximum amount of pending tasks per key.
+     * @since 4.54.0
+     */
+    int getMaxPendingTasksPerKey();
+}
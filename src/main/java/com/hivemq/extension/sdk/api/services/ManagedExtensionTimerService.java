@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A HiveMQ managed timer for scheduling very large amounts of short-lived, coarse-grained timeouts, for example one
+ * timeout per connected client.
+ * <p>
+ * The timer is backed by a hierarchical timer wheel, so scheduling and cancelling a timeout takes constant time
+ * regardless of the amount of pending timeouts, and no {@link java.util.concurrent.Future} is allocated per timeout. In
+ * exchange, timeouts expire with the resolution of the {@link #getTickDuration() tick duration} instead of the exact
+ * delay. Use {@link ManagedExtensionExecutorService#schedule(Runnable, long, TimeUnit)} if precise delays or results
+ * are needed.
+ * <p>
+ * When a timeout expires, its task is executed by the {@link ManagedExtensionExecutorService}.
+ * <p>
+ * The Extension Timer Service is automatically shut down when HiveMQ shuts down. Pending timeouts of an extension are
+ * cancelled when the extension stops.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface ManagedExtensionTimerService {
+
+    /**
+     * Schedules a task that is executed after the given delay.
+     * <p>
+     * The delay is rounded up to the next tick, so the task is never executed before the delay has passed, but can be
+     * executed up to one {@link #getTickDuration() tick duration} later.
+     *
+     * @param task  The task to execute when the timeout expires.
+     * @param delay The time from now until the timeout expires.
+     * @param unit  The time unit of the delay.
+     * @return A {@link ScheduledTimeout} that can be used to cancel the timeout.
+     * @throws NullPointerException     If the task or the unit is null.
+     * @throws IllegalArgumentException If the delay is negative.
+     * @since 4.54.0
+     */
+    @NotNull ScheduledTimeout schedule(@NotNull Runnable task, long delay, @NotNull TimeUnit unit);
+
+    /**
+     * Schedules a task that is executed after the given delay.
+     * <p>
+     * The delay is rounded up to the next tick, so the task is never executed before the delay has passed, but can be
+     * executed up to one {@link #getTickDuration() tick duration} later.
+     *
+     * @param task  The task to execute when the timeout expires.
+     * @param delay The time from now until the timeout expires.
+     * @return A {@link ScheduledTimeout} that can be used to cancel the timeout.
+     * @throws NullPointerException     If the task or the delay is null.
+     * @throws IllegalArgumentException If the delay is negative.
+     * @since 4.54.0
+     */
+    @NotNull ScheduledTimeout schedule(@NotNull Runnable task, @NotNull Duration delay);
+
+    /**
+     * The resolution of the timer. Timeouts are checked for expiration once per tick.
+     *
+     * @return The tick duration of the timer.
+     * @since 4.54.0
+     */
+    @NotNull Duration getTickDuration();
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A HiveMQ managed executor which runs each submitted task in its own virtual thread.
+ * <p>
+ * Use this executor for tasks that block, for example JDBC or HTTP calls in async interceptors or authorizers, so that
+ * blocking tasks do not saturate the {@link ManagedExtensionExecutorService}. As virtual threads are cheap to create
+ * and do not occupy a platform thread while blocked, tens of thousands of blocking operations can be in flight
+ * concurrently. Tasks that are CPU bound or need to be scheduled should still use the
+ * {@link ManagedExtensionExecutorService}.
+ * <p>
+ * If the Java runtime HiveMQ is running on does not support virtual threads, the tasks are run in a bounded pool of
+ * HiveMQ managed platform threads instead, see {@link #isVirtualThreadBased()}. The pool has a fixed maximum amount of
+ * threads and a bounded queue for tasks that wait for a free thread, so no new thread is created per task. When the
+ * queue is full, {@link #execute(Runnable)} and the submit methods throw a
+ * {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException}. Extensions that submit large
+ * amounts of blocking tasks should check {@link #isVirtualThreadBased()} and limit their concurrency accordingly.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface ManagedExtensionVirtualThreadExecutorService extends ExecutorService {
+
+    /**
+     * DO NOT CALL THIS METHOD!
+     * <p>
+     * The Extension Virtual Thread Executor Service is automatically shut down when HiveMQ is shut down.
+     * <p>
+     * Manual calls to this method from the extension system are not supported.
+     *
+     * @throws UnsupportedOperationException If it should be called.
+     * @since 4.54.0
+     */
+    @Deprecated
+    @Override
+    default void shutdown() {
+        throw new UnsupportedOperationException(
+                "ManagedExtensionVirtualThreadExecutorService must not be shut down manually");
+    }
+
+    /**
+     * DO NOT CALL THIS METHOD!
+     * <p>
+     * The Extension Virtual Thread Executor Service is automatically shut down when HiveMQ shuts down.
+     * <p>
+     * Manual calls to this method from the extension system are not supported.
+     *
+     * @throws UnsupportedOperationException If it should be called.
+     * @since 4.54.0
+     */
+    @Deprecated
+    @Override
+    default @NotNull List<@NotNull Runnable> shutdownNow() {
+        throw new UnsupportedOperationException(
+                "ManagedExtensionVirtualThreadExecutorService must not be shut down manually");
+    }
+
+    /**
+     * @return A {@link CompletableFuture} representing pending completion of the task.
+     * @see ExecutorService#submit(Runnable)
+     * @since 4.54.0
+     */
+    @Override
+    @NotNull CompletableFuture<?> submit(@NotNull Runnable task);
+
+    /**
+     * @return A {@link CompletableFuture} representing pending completion of the task.
+     * @see ExecutorService#submit(Callable)
+     * @since 4.54.0
+     */
+    @Override
+    <T> @NotNull CompletableFuture<T> submit(@NotNull Callable<T> task);
+
+    /**
+     * @return A {@link CompletableFuture} representing pending completion of the task.
+     * @see ExecutorService#submit(Runnable, Object)
+     * @since 4.54.0
+     */
+    @Override
+    <T> @NotNull CompletableFuture<T> submit(@NotNull Runnable task, @NotNull T result);
+
+    /**
+     * Checks if the tasks of this executor are run in virtual threads.
+     * <p>
+     * If <code>false</code> is returned, the Java runtime does not support virtual threads and the tasks are run in a
+     * bounded pool of platform threads with a bounded queue instead.
+     *
+     * @return <code>true</code> if each task is run in its own virtual thread, else <code>false</code>.
+     * @since 4.54.0
+     */
+    boolean isVirtualThreadBased();
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The enum is used to define how a {@link ManagedExtensionBoundedExecutorService} handles tasks that are submitted
+ * while its queue is full.
+ * <p>
+ * Regardless of the rejection policy, tasks that are submitted after the executor has been shut down are rejected: the
+ * submit methods and {@link java.util.concurrent.Executor#execute(Runnable) execute(Runnable)} throw a
+ * {@link RejectedExecutionException} and {@link ManagedExtensionBoundedExecutorService#trySubmit(Runnable) trySubmit}
+ * returns an empty {@link java.util.Optional Optional}.
+ *
+ * @since 4.54.0
+ */
+public enum RejectionPolicy {
+
+    /**
+     * The submitted task is rejected.
+     * <p>
+     * The submit methods and {@link java.util.concurrent.Executor#execute(Runnable) execute(Runnable)} throw a
+     * {@link RejectedExecutionException}.
+     *
+     * @since 4.54.0
+     */
+    FAIL_FAST,
+
+    /**
+     * The submitted task is executed directly in the thread that submits it.
+     * <p>
+     * This slows down the submitting thread and thereby provides backpressure. Do not use this policy if tasks are
+     * submitted from threads that must not block, for example in interceptors.
+     *
+     * @since 4.54.0
+     */
+    CALLER_RUNS,
+
+    /**
+     * The oldest task waiting in the queue is discarded to make room for the submitted task.
+     * <p>
+     * The future of the discarded task fails with a {@link RejectedExecutionException}. A discarded task that was
+     * passed to {@link java.util.concurrent.Executor#execute(Runnable) execute(Runnable)} has no future and is dropped
+     * without further notice. As the capacity of the executor is at least <code>1</code>, there is always a task to
+     * discard when the queue is full, so the submitted task itself is never rejected because of a full queue and
+     * neither <code>execute(Runnable)</code> nor the submit methods throw for it.
+     *
+     * @since 4.54.0
+     */
+    DROP_OLDEST
+}
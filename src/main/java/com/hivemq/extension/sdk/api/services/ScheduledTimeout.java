@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+
+/**
+ * A handle for a timeout scheduled by the {@link ManagedExtensionTimerService}.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface ScheduledTimeout {
+
+    /**
+     * Cancels the timeout, so its task will not be executed. Cancelling takes constant time.
+     *
+     * @return <code>true</code> if the timeout was cancelled, <code>false</code> if it already expired or was
+     *         cancelled before.
+     * @since 4.54.0
+     */
+    boolean cancel();
+
+    /**
+     * @return <code>true</code> if the timeout was cancelled, else <code>false</code>.
+     * @since 4.54.0
+     */
+    boolean isCancelled();
+
+    /**
+     * @return <code>true</code> if the timeout expired and its task was handed over for execution, else
+     *         <code>false</code>.
+     * @since 4.54.0
+     */
+    boolean isExpired();
+}
@@ -33,6 +33,7 @@ import com.hivemq.extension.sdk.api.services.publish.PublishService;
 import com.hivemq.extension.sdk.api.services.publish.RetainedMessageStore;
 import com.hivemq.extension.sdk.api.services.session.ClientService;
 import com.hivemq.extension.sdk.api.services.subscription.SubscriptionStore;
+import com.hivemq.extension.sdk.api.services.subscription.TopicMatcher;
 
 import java.util.Map;
 
@@ -46,7 +47,12 @@ import java.util.Map;
  *   <li>{@link GlobalInterceptorRegistry}
  *   <li>{@link SecurityRegistry}
  *   <li>{@link ManagedExtensionExecutorService}
+ *   <li>{@link ManagedExtensionVirtualThreadExecutorService}
+ *   <li>{@link ManagedExtensionKeyedExecutorService}
+ *   <li>{@link ManagedExtensionTimerService}
+ *   <li>{@link ManagedExtensionExecutorFactory}
  *   <li>{@link SubscriptionStore}
+ *   <li>{@link TopicMatcher}
  *   <li>{@link PublishService}
  *   <li>{@link ClusterService}
  *   <li>{@link RetainedMessageStore}
@@ -100,6 +106,38 @@ public class Services {
         return getClassObject(ManagedExtensionExecutorService.class);
     }
 
+    /**
+     * @return A service to execute blocking tasks in HiveMQ managed virtual threads.
+     * @since 4.54.0
+     */
+    public static @NotNull ManagedExtensionVirtualThreadExecutorService extensionVirtualThreadExecutorService() {
+        return getClassObject(ManagedExtensionVirtualThreadExecutorService.class);
+    }
+
+    /**
+     * @return A service to execute tasks in a HiveMQ managed thread pool in the order they were submitted per key.
+     * @since 4.54.0
+     */
+    public static @NotNull ManagedExtensionKeyedExecutorService extensionKeyedExecutorService() {
+        return getClassObject(ManagedExtensionKeyedExecutorService.class);
+    }
+
+    /**
+     * @return A service to schedule large amounts of coarse-grained timeouts in a HiveMQ managed timer.
+     * @since 4.54.0
+     */
+    public static @NotNull ManagedExtensionTimerService extensionTimerService() {
+        return getClassObject(ManagedExtensionTimerService.class);
+    }
+
+    /**
+     * @return A service to create bounded, named executors in a HiveMQ managed thread pool.
+     * @since 4.54.0
+     */
+    public static @NotNull ManagedExtensionExecutorFactory extensionExecutorFactory() {
+        return getClassObject(ManagedExtensionExecutorFactory.class);
+    }
+
     /**
      * @return A service to add, get and remove subscriptions.
      * @since 4.0.0, CE 2019.1
@@ -108,6 +146,14 @@ public class Services {
         return getClassObject(SubscriptionStore.class);
     }
 
+    /**
+     * @return A service to match topics against topic filters and to create topic filter indexes.
+     * @since 4.54.0
+     */
+    public static @NotNull TopicMatcher topicMatcher() {
+        return getClassObject(TopicMatcher.class);
+    }
+
     /**
      * @return A service to publish messages to topics and clients.
      * @since 4.0.0, CE 2019.1
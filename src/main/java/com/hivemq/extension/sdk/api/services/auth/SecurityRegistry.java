@@ -18,13 +18,19 @@ package com.hivemq.extension.sdk.api.services.auth;
 
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.auth.BatchSubscriptionAuthorizer;
 import com.hivemq.extension.sdk.api.auth.PublishAuthorizer;
 import com.hivemq.extension.sdk.api.auth.SubscriptionAuthorizer;
+import com.hivemq.extension.sdk.api.auth.parameter.SimpleAuthInput;
+import com.hivemq.extension.sdk.api.auth.parameter.SimpleAuthOutput;
+import com.hivemq.extension.sdk.api.packets.connect.ConnackReasonCode;
 import com.hivemq.extension.sdk.api.services.Services;
 import com.hivemq.extension.sdk.api.services.auth.provider.AuthenticatorProvider;
 import com.hivemq.extension.sdk.api.services.auth.provider.AuthorizerProvider;
 import com.hivemq.extension.sdk.api.services.auth.provider.EnhancedAuthenticatorProvider;
 
+import java.time.Duration;
+
 /**
  * The Security Registry allows extensions to define the authentication and authorization of MQTT clients.
  * <p>
@@ -34,7 +40,7 @@ import com.hivemq.extension.sdk.api.services.auth.provider.EnhancedAuthenticator
  * <p>
  * An extension can also only set at most one {@link AuthorizerProvider}. That means for authorizing PUBLISH and
  * SUBSCRIBE packets the {@link AuthorizerProvider} must implement {@link PublishAuthorizer} and
- * {@link SubscriptionAuthorizer}.
+ * {@link SubscriptionAuthorizer} or {@link BatchSubscriptionAuthorizer}.
  * <p>
  * The providers are automatically removed at extension stop.
  *
@@ -80,4 +86,85 @@ public interface SecurityRegistry {
      * @since 4.0.0, CE 2019.1
      */
     void setAuthorizerProvider(@NotNull AuthorizerProvider authorizerProvider);
+
+    /**
+     * Sets the maximum amount of cached credential verifications of this extension.
+     * <p>
+     * When the cache is full, the least recently used entries are evicted. The default maximum size is
+     * <code>100000</code>.
+     * <p>
+     * A maximum size of <code>0</code> disables the cache for this extension: all cached credential verifications are
+     * removed, {@link SimpleAuthOutput#cacheCredentialVerification(Duration)} has no effect and
+     * {@link SimpleAuthInput#isCredentialVerificationCached()} always returns <code>false</code>.
+     *
+     * @param maximumSize The maximum amount of cached credential verifications, <code>0</code> disables the cache.
+     * @throws IllegalArgumentException If the maximum size is negative.
+     * @see SimpleAuthOutput#cacheCredentialVerification(Duration)
+     * @since 4.54.0
+     */
+    void setCredentialVerificationCacheMaximumSize(int maximumSize);
+
+    /**
+     * Removes all cached credential verifications of this extension, for example after credentials were changed or
+     * revoked.
+     *
+     * @see SimpleAuthOutput#cacheCredentialVerification(Duration)
+     * @since 4.54.0
+     */
+    void invalidateCredentialVerificationCache();
+
+    /**
+     * Invalidates all resumption tickets that were issued by this extension before this call on any HiveMQ node of
+     * the cluster, for example after the identity or the permissions of clients were changed or revoked.
+     * <p>
+     * Tickets that are issued after this call are not affected.
+     *
+     * @see com.hivemq.extension.sdk.api.auth.parameter.EnhancedAuthOutput#issueResumptionTicket(Duration,
+     *         java.nio.ByteBuffer)
+     * @since 4.54.0
+     */
+    void invalidateResumptionTickets();
+
+    /**
+     * Limits the amount of concurrent authentications of this extension.
+     * <p>
+     * An authentication is in flight while the authenticator of this extension is executed: from the call of the
+     * authenticator until its decision, its call of continueAuthentication or the timeout of its async operation. For
+     * an {@link com.hivemq.extension.sdk.api.auth.EnhancedAuthenticator EnhancedAuthenticator} the time spent waiting
+     * for the next AUTH packet of the client after continueAuthentication does not count, the slot is released when
+     * the AUTH packet is sent and acquired again when the authenticator is called for the AUTH packet of the client.
+     * Slow clients can therefore not occupy slots.
+     * <p>
+     * When the maximum amount of authentications is in flight, further CONNECT and AUTH packets wait in a queue before
+     * the authenticator is called for them. When the queue is full or a packet waited for longer than the maximum
+     * queue time, the authenticator is not called and the client receives a CONNACK packet with reason code
+     * {@link ConnackReasonCode#SERVER_BUSY SERVER_BUSY}, or a DISCONNECT packet with the same reason code during
+     * re-authentication. MQTT 3 clients receive a CONNACK packet with the return code SERVER_UNAVAILABLE instead.
+     * <p>
+     * This protects the backend of the authenticator from overload, for example during reconnect storms.
+     * <p>
+     * A previously set admission control is replaced. Authentications that are already in flight or queued are not
+     * affected.
+     *
+     * @param maxConcurrentAuthentications The maximum amount of authentications in flight, must be greater than 0.
+     * @param maxQueuedAuthentications     The maximum amount of waiting CONNECT and AUTH packets, 0 disables queueing.
+     * @param maxQueueTime                 The maximum time a CONNECT or AUTH packet waits in the queue.
+     * @throws NullPointerException     If the maximum queue time is null.
+     * @throws IllegalArgumentException If the maximum amount of concurrent authentications is not greater than 0, the
+     *                                  maximum amount of queued authentications is negative or the maximum queue time
+     *                                  is negative.
+     * @since 4.54.0
+     */
+    void setAuthenticationAdmissionControl(
+            int maxConcurrentAuthentications, int maxQueuedAuthentications, @NotNull Duration maxQueueTime);
+
+    /**
+     * Removes the limit on the amount of concurrent authentications of this extension.
+     * <p>
+     * Queued CONNECT and AUTH packets are passed to the authenticator immediately.
+     *
+     * @see #setAuthenticationAdmissionControl(int, int, Duration)
+     * @since 4.54.0
+     */
+    void removeAuthenticationAdmissionControl();
 }
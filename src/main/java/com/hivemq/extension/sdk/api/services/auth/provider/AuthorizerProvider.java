@@ -19,6 +19,7 @@ package com.hivemq.extension.sdk.api.services.auth.provider;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.annotations.Nullable;
 import com.hivemq.extension.sdk.api.auth.Authorizer;
+import com.hivemq.extension.sdk.api.auth.BatchSubscriptionAuthorizer;
 import com.hivemq.extension.sdk.api.auth.PublishAuthorizer;
 import com.hivemq.extension.sdk.api.auth.SubscriptionAuthorizer;
 import com.hivemq.extension.sdk.api.auth.parameter.AuthorizerProviderInput;
@@ -43,7 +44,7 @@ public interface AuthorizerProvider {
      * <code>null</code> can be returned if no authorization for the client is necessary.
      *
      * @param authorizerProviderInput The {@link AuthorizerProviderInput}.
-     * @return Either an implementation of {@link SubscriptionAuthorizer} or an implementation of
+     * @return Either an implementation of {@link SubscriptionAuthorizer}, {@link BatchSubscriptionAuthorizer} or
      *         {@link PublishAuthorizer}. <code>null</code> is ignored and has the same effect as if this provider would
      *         had not been set for the connecting client. Returning any other implementation of the {@link Authorizer}
      *         interface is an error.
@@ -18,7 +18,9 @@ package com.hivemq.extension.sdk.api.services.builder;
 
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.annotations.Nullable;
+import com.hivemq.extension.sdk.api.auth.parameter.PermissionSet;
 import com.hivemq.extension.sdk.api.auth.parameter.TopicPermission;
+import com.hivemq.extension.sdk.api.client.parameter.ConnectionAttributeKey;
 import com.hivemq.extension.sdk.api.packets.connect.WillPublishPacket;
 import com.hivemq.extension.sdk.api.services.publish.Publish;
 import com.hivemq.extension.sdk.api.services.publish.RetainedPublish;
@@ -36,6 +38,8 @@ import java.util.function.Supplier;
  *   <li>{@link TopicPermission}
  *   <li>{@link TopicSubscription}
  *   <li>{@link WillPublishPacket}
+ *   <li>{@link ConnectionAttributeKey}
+ *   <li>{@link PermissionSet}
  * </ul>
  *
  * @author Christoph Schäbel
@@ -90,6 +94,22 @@ public class Builders {
         return getClassSupplier(WillPublishBuilder.class).get();
     }
 
+    /**
+     * @return A builder for a {@link ConnectionAttributeKey}.
+     * @since 4.54.0
+     */
+    public static @NotNull ConnectionAttributeKeyBuilder connectionAttributeKey() {
+        return getClassSupplier(ConnectionAttributeKeyBuilder.class).get();
+    }
+
+    /**
+     * @return A builder for a {@link PermissionSet}.
+     * @since 4.54.0
+     */
+    public static @NotNull PermissionSetBuilder permissionSet() {
+        return getClassSupplier(PermissionSetBuilder.class).get();
+    }
+
     private static <T> @NotNull Supplier<T> getClassSupplier(final @NotNull Class<T> clazz) {
 
         if (builders == null) {
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services.builder;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.client.parameter.ConnectionAttributeKey;
+
+/**
+ * This builder allows to create {@link ConnectionAttributeKey}s that can be used in the extension system.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface ConnectionAttributeKeyBuilder {
+
+    /**
+     * Set a name for the {@link ConnectionAttributeKey}.
+     * <p>
+     * This value has no default and must be set.
+     *
+     * @param name The name to set.
+     * @return The {@link ConnectionAttributeKeyBuilder}.
+     * @throws NullPointerException     If the name is null.
+     * @throws IllegalArgumentException If the name is an empty string.
+     * @since 4.54.0
+     */
+    @NotNull ConnectionAttributeKeyBuilder name(@NotNull String name);
+
+    /**
+     * Builds the {@link ConnectionAttributeKey} with the provided name and the given value type.
+     * <p>
+     * Attribute keys are interned per extension: building an attribute key with the same name and type again returns an
+     * attribute key that resolves to the same slot.
+     *
+     * @param <T>  The value type of the attribute key.
+     * @param type The type of the values that are stored with the attribute key.
+     * @return A {@link ConnectionAttributeKey} with the set parameters.
+     * @throws NullPointerException     If the name or the type is null.
+     * @throws IllegalArgumentException If an attribute key with the same name but a different type was already built.
+     * @since 4.54.0
+     */
+    <T> @NotNull ConnectionAttributeKey<T> build(@NotNull Class<T> type);
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services.builder;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.auth.parameter.PermissionSet;
+import com.hivemq.extension.sdk.api.auth.parameter.TopicPermission;
+import com.hivemq.extension.sdk.api.services.exception.DoNotImplementException;
+
+import java.util.Collection;
+
+/**
+ * This builder allows to create {@link PermissionSet}s that can be used in the extension system.
+ *
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PermissionSetBuilder {
+
+    /**
+     * Adds a {@link TopicPermission} to the {@link PermissionSet}.
+     *
+     * @param permission The {@link TopicPermission} to add.
+     * @return The {@link PermissionSetBuilder}.
+     * @throws NullPointerException    If the permission is null.
+     * @throws DoNotImplementException If {@link TopicPermission} is implemented by the extension and not created by
+     *                                 {@link Builders#topicPermission()}.
+     * @since 4.54.0
+     */
+    @NotNull PermissionSetBuilder add(@NotNull TopicPermission permission);
+
+    /**
+     * Adds all passed {@link TopicPermission}s to the {@link PermissionSet}.
+     *
+     * @param permissions A {@link Collection} of {@link TopicPermission}s to add.
+     * @return The {@link PermissionSetBuilder}.
+     * @throws NullPointerException    If permissions or any of the permissions is null.
+     * @throws DoNotImplementException If {@link TopicPermission} is implemented by the extension and not created by
+     *                                 {@link Builders#topicPermission()}.
+     * @since 4.54.0
+     */
+    @NotNull PermissionSetBuilder addAll(@NotNull Collection<? extends TopicPermission> permissions);
+
+    /**
+     * Builds and compiles the {@link PermissionSet} with the added topic permissions.
+     * <p>
+     * Building a permission set is an expensive operation. It should be done once and the permission set should be
+     * shared among all clients that need the same topic permissions.
+     *
+     * @return A {@link PermissionSet} with the added topic permissions.
+     * @since 4.54.0
+     */
+    @NotNull PermissionSet build();
+}
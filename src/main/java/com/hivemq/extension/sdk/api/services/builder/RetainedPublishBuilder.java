@@ -44,6 +44,10 @@ public interface RetainedPublishBuilder {
 
     /**
      * Create a {@link RetainedPublish} from the values of a {@link PublishPacket}.
+     * <p>
+     * The payload is copied internally, also if the publish packet is passed to a PUBLISH interceptor that declared
+     * that it does not require the payload and {@link PublishPacket#getPayload()} therefore throws an
+     * {@link UnsupportedOperationException}.
      *
      * @param publishPacket The publish packet to build a {@link Publish} from.
      * @return The {@link RetainedPublishBuilder}.
@@ -32,7 +32,9 @@ public interface TopicPermissionBuilder {
     /**
      * Set a topic filter for this {@link TopicPermission}.
      * <p>
-     * This value has no default and must be set.
+     * This value has no default and must be set, unless a topic filter template is set via
+     * {@link #topicFilterTemplate(String)}. This overwrites a topic filter template set via
+     * {@link #topicFilterTemplate(String)}.
      *
      * @param topicFilter The topic filter to set.
      * @return The {@link TopicPermissionBuilder}.
@@ -45,6 +47,40 @@ public interface TopicPermissionBuilder {
      */
     @NotNull TopicPermissionBuilder topicFilter(@NotNull String topicFilter);
 
+    /**
+     * Set a topic filter template for this {@link TopicPermission}.
+     * <p>
+     * A topic filter template is a topic filter in which whole topic levels can be placeholders. The placeholders are
+     * resolved lazily for the client that is authorized whenever the topic permission is matched, so a single topic
+     * permission, for example in a shared {@link com.hivemq.extension.sdk.api.auth.parameter.PermissionSet
+     * PermissionSet}, can serve any amount of clients. The following placeholders are supported:
+     * <ul>
+     *   <li><code>${clientid}</code>: the client identifier of the client
+     *   <li><code>${username}</code>: the username of the client
+     *   <li><code>${attribute:&lt;key&gt;}</code>: the UTF-8 string value of the connection attribute with the key
+     *     <code>&lt;key&gt;</code> of the client
+     * </ul>
+     * For example the template <code>devices/${clientid}/#</code> permits each client only its own topic tree.
+     * <p>
+     * If a placeholder can not be resolved for a client, for example because the client did not send a username, or if
+     * the resolved value contains the characters <code>/</code>, <code>+</code> or <code>#</code>, the topic permission
+     * does not match for this client.
+     * <p>
+     * This overwrites a topic filter set via {@link #topicFilter(String)}.
+     *
+     * @param topicFilterTemplate The topic filter template to set.
+     * @return The {@link TopicPermissionBuilder}.
+     * @throws NullPointerException     If the topic filter template is null.
+     * @throws IllegalArgumentException If the topic filter template is an empty string.
+     * @throws IllegalArgumentException If the topic filter template contains invalid UTF-8 characters.
+     * @throws IllegalArgumentException If the topic filter template contains an unknown placeholder or a placeholder
+     *                                  that is not a whole topic level.
+     * @throws IllegalArgumentException If the topic filter template is longer than the configured maximum. Default
+     *                                  maximum length is 65535.
+     * @since 4.54.0
+     */
+    @NotNull TopicPermissionBuilder topicFilterTemplate(@NotNull String topicFilterTemplate);
+
     /**
      * Set a type for this {@link TopicPermission}.
      * <p>
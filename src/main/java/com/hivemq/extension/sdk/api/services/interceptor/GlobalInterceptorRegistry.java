@@ -21,6 +21,16 @@ import com.hivemq.extension.sdk.api.interceptor.connack.ConnackOutboundIntercept
 import com.hivemq.extension.sdk.api.interceptor.connack.ConnackOutboundInterceptorProvider;
 import com.hivemq.extension.sdk.api.interceptor.connect.ConnectInboundInterceptor;
 import com.hivemq.extension.sdk.api.interceptor.connect.ConnectInboundInterceptorProvider;
+import com.hivemq.extension.sdk.api.interceptor.disconnect.DisconnectInboundInterceptor;
+import com.hivemq.extension.sdk.api.interceptor.disconnect.DisconnectOutboundInterceptor;
+import com.hivemq.extension.sdk.api.interceptor.publish.PublishInboundBatchInterceptor;
+import com.hivemq.extension.sdk.api.interceptor.publish.PublishInboundInterceptor;
+import com.hivemq.extension.sdk.api.interceptor.publish.PublishOutboundInterceptor;
+import com.hivemq.extension.sdk.api.interceptor.subscribe.SubscribeInboundInterceptor;
+import com.hivemq.extension.sdk.api.services.intializer.ClientInitializer;
+
+import java.time.Duration;
+import java.util.Collection;
 
 /**
  * @author Lukas Brandl
@@ -56,4 +66,274 @@ public interface GlobalInterceptorRegistry {
      */
     void setConnackOutboundInterceptorProvider(
             @NotNull ConnackOutboundInterceptorProvider connackOutboundInterceptorProvider);
+
+    /**
+     * Adds an {@link PublishInboundInterceptor} for all clients.
+     * <p>
+     * The interceptor is registered once and called for every inbound PUBLISH packet of every MQTT client, in addition
+     * to the interceptors added to the individual {@link com.hivemq.extension.sdk.api.client.ClientContext} of a
+     * client. Unlike interceptors added in a {@link ClientInitializer}, no per client reference is kept, so a globally
+     * added interceptor does not cause any work or memory overhead when a client connects. Global interceptors of an
+     * extension are called before the interceptors of the same extension that were added to the
+     * {@link com.hivemq.extension.sdk.api.client.ClientContext} of the client. Multiple global interceptors of an
+     * extension are called in the order they were added.
+     * <p>
+     * The same instance is shared between all clients and can be called in different Threads, it must therefore be
+     * thread-safe.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored. When the extension stops, the interceptor is removed
+     * automatically.
+     *
+     * @param publishInboundInterceptor The implementation of an PublishInboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void addPublishInboundInterceptor(@NotNull PublishInboundInterceptor publishInboundInterceptor);
+
+    /**
+     * Adds a {@link PublishInboundInterceptor} for all clients that is only called for inbound PUBLISH packets
+     * with a topic that matches at least one of the given topic filters.
+     * <p>
+     * The topic filters are matched by HiveMQ with the same semantics as subscriptions, so the wildcards
+     * <code>+</code> and <code>#</code> can be used. PUBLISH packets that do not match any of the topic filters
+     * bypass the interceptor entirely, no input and output objects are created for them.
+     * <p>
+     * The interceptor is called in the same order as the other global interceptors of the extension, so before the
+     * interceptors of the same extension that were added to the
+     * {@link com.hivemq.extension.sdk.api.client.ClientContext} of the client.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored, even if other topic filters are given.
+     * {@link #removePublishInboundInterceptor(PublishInboundInterceptor)} removes the interceptor for all of its topic
+     * filters.
+     *
+     * @param publishInboundInterceptor The implementation of a PublishInboundInterceptor.
+     * @param topicFilters              The topic filters the interceptor is called for.
+     * @throws NullPointerException     If the interceptor, the collection or any of the topic filters is null.
+     * @throws IllegalArgumentException If the collection of topic filters is empty.
+     * @throws IllegalArgumentException If any of the topic filters is not a valid topic filter.
+     * @throws IllegalArgumentException If any of the topic filters is a shared subscription topic filter.
+     * @since 4.54.0
+     */
+    void addPublishInboundInterceptor(
+            @NotNull PublishInboundInterceptor publishInboundInterceptor,
+            @NotNull Collection<@NotNull String> topicFilters);
+
+    /**
+     * Adds a {@link PublishInboundBatchInterceptor} for all clients.
+     * <p>
+     * Inbound PUBLISH packets of all MQTT clients are collected into batches which are passed to the interceptor. A
+     * batch is passed to the interceptor as soon as it contains <code>maxBatchSize</code> PUBLISH packets or the first
+     * PUBLISH packet in the batch has waited for <code>maxDelay</code>, whichever happens first. A batch can contain
+     * multiple PUBLISH packets of the same client. PUBLISH packets of a client that are held back because a previous
+     * batch with PUBLISH packets of that client is still in progress start to wait when that batch is completed (see
+     * {@link PublishInboundBatchInterceptor}).
+     * <p>
+     * Batch interceptors are called after the {@link PublishInboundInterceptor}s of the same extension.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored. When the extension stops, the interceptor is removed
+     * automatically.
+     *
+     * @param publishInboundBatchInterceptor The implementation of a PublishInboundBatchInterceptor.
+     * @param maxBatchSize                   The maximum amount of PUBLISH packets in a batch.
+     * @param maxDelay                       The maximum time a PUBLISH packet waits for its batch to be passed to the
+     *                                       interceptor, for held back PUBLISH packets counted from the completion of
+     *                                       the previous batch of the same client.
+     * @throws NullPointerException     If the interceptor or the delay is null.
+     * @throws IllegalArgumentException If the maximum batch size is less than 1.
+     * @throws IllegalArgumentException If the maximum delay is negative.
+     * @since 4.54.0
+     */
+    void addPublishInboundBatchInterceptor(
+            @NotNull PublishInboundBatchInterceptor publishInboundBatchInterceptor,
+            int maxBatchSize,
+            @NotNull Duration maxDelay);
+
+    /**
+     * Adds an {@link PublishOutboundInterceptor} for all clients.
+     * <p>
+     * The interceptor is registered once and called for every outbound PUBLISH packet of every MQTT client, in addition
+     * to the interceptors added to the individual {@link com.hivemq.extension.sdk.api.client.ClientContext} of a
+     * client. Unlike interceptors added in a {@link ClientInitializer}, no per client reference is kept, so a globally
+     * added interceptor does not cause any work or memory overhead when a client connects. Global interceptors of an
+     * extension are called before the interceptors of the same extension that were added to the
+     * {@link com.hivemq.extension.sdk.api.client.ClientContext} of the client. Multiple global interceptors of an
+     * extension are called in the order they were added.
+     * <p>
+     * The same instance is shared between all clients and can be called in different Threads, it must therefore be
+     * thread-safe.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored. When the extension stops, the interceptor is removed
+     * automatically.
+     *
+     * @param publishOutboundInterceptor The implementation of an PublishOutboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void addPublishOutboundInterceptor(@NotNull PublishOutboundInterceptor publishOutboundInterceptor);
+
+    /**
+     * Adds a {@link PublishOutboundInterceptor} for all clients that is only called for outbound PUBLISH packets
+     * with a topic that matches at least one of the given topic filters.
+     * <p>
+     * The topic filters are matched by HiveMQ with the same semantics as subscriptions, so the wildcards
+     * <code>+</code> and <code>#</code> can be used. PUBLISH packets that do not match any of the topic filters
+     * bypass the interceptor entirely, no input and output objects are created for them.
+     * <p>
+     * The interceptor is called in the same order as the other global interceptors of the extension, so before the
+     * interceptors of the same extension that were added to the
+     * {@link com.hivemq.extension.sdk.api.client.ClientContext} of the client.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored, even if other topic filters are given.
+     * {@link #removePublishOutboundInterceptor(PublishOutboundInterceptor)} removes the interceptor for all of its
+     * topic filters.
+     *
+     * @param publishOutboundInterceptor The implementation of a PublishOutboundInterceptor.
+     * @param topicFilters               The topic filters the interceptor is called for.
+     * @throws NullPointerException     If the interceptor, the collection or any of the topic filters is null.
+     * @throws IllegalArgumentException If the collection of topic filters is empty.
+     * @throws IllegalArgumentException If any of the topic filters is not a valid topic filter.
+     * @throws IllegalArgumentException If any of the topic filters is a shared subscription topic filter.
+     * @since 4.54.0
+     */
+    void addPublishOutboundInterceptor(
+            @NotNull PublishOutboundInterceptor publishOutboundInterceptor,
+            @NotNull Collection<@NotNull String> topicFilters);
+
+    /**
+     * Adds a {@link SubscribeInboundInterceptor} for all clients.
+     * <p>
+     * The interceptor is registered once and called for every inbound SUBSCRIBE packet of every MQTT client, in
+     * addition to the interceptors added to the individual {@link com.hivemq.extension.sdk.api.client.ClientContext} of
+     * a client. Unlike interceptors added in a {@link ClientInitializer}, no per client reference is kept, so a
+     * globally added interceptor does not cause any work or memory overhead when a client connects. Global interceptors
+     * of an extension are called before the interceptors of the same extension that were added to the
+     * {@link com.hivemq.extension.sdk.api.client.ClientContext} of the client. Multiple global interceptors of an
+     * extension are called in the order they were added.
+     * <p>
+     * The same instance is shared between all clients and can be called in different Threads, it must therefore be
+     * thread-safe.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored. When the extension stops, the interceptor is removed
+     * automatically.
+     *
+     * @param subscribeInboundInterceptor The implementation of a SubscribeInboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void addSubscribeInboundInterceptor(@NotNull SubscribeInboundInterceptor subscribeInboundInterceptor);
+
+    /**
+     * Adds a {@link DisconnectInboundInterceptor} for all clients.
+     * <p>
+     * The interceptor is registered once and called for every inbound DISCONNECT packet of every MQTT client, in
+     * addition to the interceptors added to the individual {@link com.hivemq.extension.sdk.api.client.ClientContext} of
+     * a client. Unlike interceptors added in a {@link ClientInitializer}, no per client reference is kept, so a
+     * globally added interceptor does not cause any work or memory overhead when a client connects. Global interceptors
+     * of an extension are called before the interceptors of the same extension that were added to the
+     * {@link com.hivemq.extension.sdk.api.client.ClientContext} of the client. Multiple global interceptors of an
+     * extension are called in the order they were added.
+     * <p>
+     * The same instance is shared between all clients and can be called in different Threads, it must therefore be
+     * thread-safe.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored. When the extension stops, the interceptor is removed
+     * automatically.
+     *
+     * @param disconnectInboundInterceptor The implementation of a DisconnectInboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void addDisconnectInboundInterceptor(@NotNull DisconnectInboundInterceptor disconnectInboundInterceptor);
+
+    /**
+     * Adds a {@link DisconnectOutboundInterceptor} for all clients.
+     * <p>
+     * The interceptor is registered once and called for every outbound DISCONNECT packet of every MQTT client, in
+     * addition to the interceptors added to the individual {@link com.hivemq.extension.sdk.api.client.ClientContext} of
+     * a client. Unlike interceptors added in a {@link ClientInitializer}, no per client reference is kept, so a
+     * globally added interceptor does not cause any work or memory overhead when a client connects. Global interceptors
+     * of an extension are called before the interceptors of the same extension that were added to the
+     * {@link com.hivemq.extension.sdk.api.client.ClientContext} of the client. Multiple global interceptors of an
+     * extension are called in the order they were added.
+     * <p>
+     * The same instance is shared between all clients and can be called in different Threads, it must therefore be
+     * thread-safe.
+     * <p>
+     * Subsequent adding of the same interceptor will be ignored. When the extension stops, the interceptor is removed
+     * automatically.
+     *
+     * @param disconnectOutboundInterceptor The implementation of a DisconnectOutboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void addDisconnectOutboundInterceptor(@NotNull DisconnectOutboundInterceptor disconnectOutboundInterceptor);
+
+    /**
+     * Removes an {@link PublishInboundInterceptor} that was added for all clients.
+     * <p>
+     * Nothing happens if the interceptor that should be removed, has not been added in the first place.
+     *
+     * @param publishInboundInterceptor The implementation of an PublishInboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void removePublishInboundInterceptor(@NotNull PublishInboundInterceptor publishInboundInterceptor);
+
+    /**
+     * Removes a {@link PublishInboundBatchInterceptor} that was added for all clients.
+     * <p>
+     * PUBLISH packets that are already collected into a batch for this interceptor are passed to it before it is
+     * removed.
+     * <p>
+     * Nothing happens if the interceptor that should be removed, has not been added in the first place.
+     *
+     * @param publishInboundBatchInterceptor The implementation of a PublishInboundBatchInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void removePublishInboundBatchInterceptor(@NotNull PublishInboundBatchInterceptor publishInboundBatchInterceptor);
+
+    /**
+     * Removes an {@link PublishOutboundInterceptor} that was added for all clients.
+     * <p>
+     * Nothing happens if the interceptor that should be removed, has not been added in the first place.
+     *
+     * @param publishOutboundInterceptor The implementation of an PublishOutboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void removePublishOutboundInterceptor(@NotNull PublishOutboundInterceptor publishOutboundInterceptor);
+
+    /**
+     * Removes a {@link SubscribeInboundInterceptor} that was added for all clients.
+     * <p>
+     * Nothing happens if the interceptor that should be removed, has not been added in the first place.
+     *
+     * @param subscribeInboundInterceptor The implementation of a SubscribeInboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void removeSubscribeInboundInterceptor(@NotNull SubscribeInboundInterceptor subscribeInboundInterceptor);
+
+    /**
+     * Removes a {@link DisconnectInboundInterceptor} that was added for all clients.
+     * <p>
+     * Nothing happens if the interceptor that should be removed, has not been added in the first place.
+     *
+     * @param disconnectInboundInterceptor The implementation of a DisconnectInboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void removeDisconnectInboundInterceptor(@NotNull DisconnectInboundInterceptor disconnectInboundInterceptor);
+
+    /**
+     * Removes a {@link DisconnectOutboundInterceptor} that was added for all clients.
+     * <p>
+     * Nothing happens if the interceptor that should be removed, has not been added in the first place.
+     *
+     * @param disconnectOutboundInterceptor The implementation of a DisconnectOutboundInterceptor.
+     * @throws NullPointerException If the interceptor is null.
+     * @since 4.54.0
+     */
+    void removeDisconnectOutboundInterceptor(@NotNull DisconnectOutboundInterceptor disconnectOutboundInterceptor);
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services.session;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.services.exception.LimitExceededException;
+import com.hivemq.extension.sdk.api.services.exception.NoSuchClientIdException;
+import com.hivemq.extension.sdk.api.services.exception.RateLimitExceededException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Through this store an extension can manage the session attributes of any client session in the HiveMQ cluster, also
+ * of clients that are connected to other HiveMQ instances or are disconnected.
+ * <p>
+ * The session attributes are the same as in the {@link SessionAttributeStore} of a connected client. In contrast to the
+ * SessionAttributeStore, all operations are asynchronous and may involve other cluster nodes. A modifying operation
+ * completes when the change was applied to the session by all cluster nodes.
+ * <p>
+ * For all methods, the {@link CompletableFuture} fails with a
+ * <ul>
+ *   <li>{@link NoSuchClientIdException} if no session for the client exists.
+ *   <li>{@link RateLimitExceededException} if the extension service rate limit was exceeded.
+ * </ul>
+ * <p>
+ * The AsyncSessionAttributeStore is thread safe.
+ *
+ * @see ClientService#getSessionAttributeStore(String)
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface AsyncSessionAttributeStore {
+
+    /**
+     * @return The client identifier of the client session of this store.
+     * @since 4.54.0
+     */
+    @NotNull String getClientId();
+
+    /**
+     * Sets the given session attribute for the client session.
+     * <p>
+     * {@link CompletableFuture} fails with a {@link LimitExceededException} if the size of the passed value exceeds the
+     * maximum allowed size of 10 kilobytes for the value.
+     *
+     * @param key   The key of the session attribute.
+     * @param value The value of the session attribute.
+     * @return A {@link CompletableFuture} that completes as soon as the session attribute was set by all cluster nodes.
+     * @throws NullPointerException If the key or the value is null.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<Void> put(@NotNull String key, @NotNull ByteBuffer value);
+
+    /**
+     * Sets the given session attribute as String representation for the client session with a given charset.
+     * <p>
+     * {@link CompletableFuture} fails with a {@link LimitExceededException} if the size of the passed value exceeds the
+     * maximum allowed size of 10 kilobytes for the value.
+     *
+     * @param key     The key of the session attribute.
+     * @param value   The value of the session attribute as a string with the given charset.
+     * @param charset The {@link Charset} of the given value.
+     * @return A {@link CompletableFuture} that completes as soon as the session attribute was set by all cluster nodes.
+     * @throws NullPointerException If the key, the value or the charset is null.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<Void> putAsString(
+            @NotNull String key, @NotNull String value, @NotNull Charset charset);
+
+    /**
+     * Retrieves the value of the session attribute with the given key for the client session.
+     * <p>
+     * The ByteBuffer contained in the result is {@link ByteBuffer#asReadOnlyBuffer() read only} and will throw a
+     * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} if handled incorrectly.
+     *
+     * @param key The key of the session attribute.
+     * @return A {@link CompletableFuture} which contains the value of the session attribute if present.
+     * @throws NullPointerException If the key is null.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<Optional<@Immutable ByteBuffer>> get(@NotNull String key);
+
+    /**
+     * Retrieves the value of the session attribute with the given key for the client session as string with the given
+     * charset.
+     *
+     * @param key     The key of the session attribute.
+     * @param charset The {@link Charset} of the value of the session attribute.
+     * @return A {@link CompletableFuture} which contains the value of the session attribute as a string with the given
+     *         charset if present.
+     * @throws NullPointerException If the key or the charset is null.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<Optional<String>> getAsString(@NotNull String key, @NotNull Charset charset);
+
+    /**
+     * Retrieves all session attributes for the client session.
+     * <p>
+     * The ByteBuffers contained in the result are {@link ByteBuffer#asReadOnlyBuffer() read only} and will throw a
+     * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} if handled incorrectly.
+     *
+     * @return A {@link CompletableFuture} which contains an unmodifiable map of key and value pairs of all session
+     *         attributes.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<@Immutable Map<@NotNull String, @Immutable @NotNull ByteBuffer>> getAll();
+
+    /**
+     * Removes the session attribute with the given key for the client session.
+     * <p>
+     * The ByteBuffer contained in the result is {@link ByteBuffer#asReadOnlyBuffer() read only} and will throw a
+     * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} if handled incorrectly.
+     *
+     * @param key The key of the session attribute.
+     * @return A {@link CompletableFuture} which contains the value of the removed session attribute if it was present.
+     *         It completes as soon as the session attribute was removed by all cluster nodes.
+     * @throws NullPointerException If the key is null.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<Optional<@Immutable ByteBuffer>> remove(@NotNull String key);
+
+    /**
+     * Clears all session attributes for the client session.
+     *
+     * @return A {@link CompletableFuture} that completes as soon as the session attributes were cleared by all cluster
+     *         nodes.
+     * @since 4.54.0
+     */
+    @NotNull CompletableFuture<Void> clear();
+}
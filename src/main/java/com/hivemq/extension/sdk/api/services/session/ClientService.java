@@ -74,6 +74,24 @@ public interface ClientService {
      */
     @NotNull CompletableFuture<Optional<SessionInformation>> getSession(@NotNull String clientId);
 
+    /**
+     * Returns the {@link AsyncSessionAttributeStore} of the client session with the given client identifier.
+     * <p>
+     * The session attributes survive reconnects of the client as long as the client session exists. The store can be
+     * used for the sessions of connected clients on any cluster node and of disconnected clients. All its operations
+     * are asynchronous, they fail with a {@link NoSuchClientIdException} if no session for the client exists.
+     * <p>
+     * For a client that is connected to this HiveMQ instance, the {@link SessionAttributeStore} of its
+     * {@link com.hivemq.extension.sdk.api.client.parameter.ConnectionInformation ConnectionInformation} provides
+     * synchronous access to the same session attributes.
+     *
+     * @param clientId The client identifier of the client.
+     * @return The {@link AsyncSessionAttributeStore} for the client session.
+     * @throws NullPointerException If the client identifier is null.
+     * @since 4.54.0
+     */
+    @NotNull AsyncSessionAttributeStore getSessionAttributeStore(@NotNull String clientId);
+
     /**
      * Forcefully disconnect a client with the specified clientId.
      * <p>
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services.session;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.client.parameter.ConnectionAttributeStore;
+import com.hivemq.extension.sdk.api.client.parameter.ConnectionInformation;
+import com.hivemq.extension.sdk.api.services.exception.LimitExceededException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Through this store an extension can manage client session attributes with the same lifetime as the client session.
+ * <p>
+ * In contrast to the {@link ConnectionAttributeStore}, the session attributes are not removed when the client
+ * disconnects. They survive reconnects of the client, also to other HiveMQ instances in the cluster, as long as the
+ * client session exists. The session attributes are removed when the session expires, is invalidated or the client
+ * connects with a clean start.
+ * <p>
+ * The SessionAttributeStore is useful for caching per client context that is expensive to derive, for example tenant
+ * information or device metadata fetched from a database, so it does not have to be derived again on every reconnect.
+ * <p>
+ * This store is only available for a client that is connected to this HiveMQ instance, via
+ * {@link ConnectionInformation#getSessionAttributeStore()}. Its methods operate on the local state of the session and
+ * never block on other cluster nodes. Changes are replicated to the other cluster nodes asynchronously. HiveMQ
+ * completes the replication before the session is taken over by another HiveMQ instance, so all changes are visible
+ * after the client reconnects to another instance. If this HiveMQ instance fails, changes that were not replicated yet
+ * are lost. To access the session attributes of any client session, also of remote or disconnected clients, use the
+ * {@link AsyncSessionAttributeStore}.
+ * <p>
+ * During the authentication of a client that connects with a clean start, the store is empty, the attributes of the
+ * previous session are not visible. Session attributes that are set during the authentication belong to the new
+ * session. The attributes of the previous session are only removed when the client is connected successfully, if the
+ * authentication fails they are kept. If the client connects without clean start, the store contains the attributes
+ * of the existing session already during the authentication.
+ * <p>
+ * A Session Attribute is arbitrary binary data. The maximum size of a single key-value pair is 10 kilobytes.
+ * <p>
+ * The SessionAttributeStore is thread safe.
+ *
+ * @see AsyncSessionAttributeStore
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface SessionAttributeStore {
+
+    /**
+     * Sets the given session attribute for the client session.
+     *
+     * @param key   The key of the session attribute.
+     * @param value The value of the session attribute.
+     * @throws LimitExceededException A {@link LimitExceededException} is thrown when the size of the passed value
+     *                                exceeds the maximum allowed size of 10 kilobytes for the value.
+     * @since 4.54.0
+     */
+    void put(@NotNull String key, @NotNull ByteBuffer value);
+
+    /**
+     * Sets the given session attribute as String representation for the client session with a given charset.
+     *
+     * @param key     The key of the session attribute.
+     * @param value   The value of the session attribute as a string with the given charset.
+     * @param charset The {@link Charset} of the given value.
+     * @throws LimitExceededException A {@link LimitExceededException} is thrown when the size of the passed value
+     *                                exceeds the maximum allowed size of 10 kilobytes for the value.
+     * @since 4.54.0
+     */
+    void putAsString(@NotNull String key, @NotNull String value, @NotNull Charset charset);
+
+    /**
+     * Retrieves the value of the session attribute with the given key for the client session.
+     * <p>
+     * The ByteBuffer returned by this method is {@link ByteBuffer#asReadOnlyBuffer() read only} and will throw a
+     * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} if handled incorrectly.
+     *
+     * @param key The key of the session attribute.
+     * @return An {@link Optional} containing the value of the session attribute if present.
+     * @since 4.54.0
+     */
+    @NotNull Optional<@Immutable ByteBuffer> get(@NotNull String key);
+
+    /**
+     * Retrieves the value of the session attribute with the given key for the client session as string with the given
+     * charset.
+     *
+     * @param key     The key of the session attribute.
+     * @param charset The {@link Charset} of the value of the session attribute.
+     * @return An {@link Optional} containing the value of the session attribute as a string with the given charset if
+     *         present.
+     * @since 4.54.0
+     */
+    @NotNull Optional<String> getAsString(@NotNull String key, @NotNull Charset charset);
+
+    /**
+     * Retrieves all session attributes for the client session.
+     * <p>
+     * The ByteBuffers returned by this method are {@link ByteBuffer#asReadOnlyBuffer() read only} and will throw a
+     * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} if handled incorrectly.
+     *
+     * @return An unmodifiable map of key and value pairs of all session attributes.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull Map<@NotNull String, @Immutable @NotNull ByteBuffer> getAll();
+
+    /**
+     * Removes the session attribute with the given key for the client session.
+     * <p>
+     * The ByteBuffer returned by this method is {@link ByteBuffer#asReadOnlyBuffer() read only} and will throw a
+     * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} if handled incorrectly.
+     *
+     * @param key The key of the session attribute.
+     * @return An {@link Optional} containing the value of the removed session attribute if it was present.
+     * @since 4.54.0
+     */
+    @NotNull Optional<@Immutable ByteBuffer> remove(@NotNull String key);
+
+    /**
+     * Clears all session attributes for the client session.
+     *
+     * @since 4.54.0
+     */
+    void clear();
+}
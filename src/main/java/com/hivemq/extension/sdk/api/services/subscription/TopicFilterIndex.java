@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services.subscription;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A concurrent index of topic filters, each associated with one or more values, that finds all values whose topic
+ * filters match a topic.
+ * <p>
+ * The topic filters are stored in a tree keyed by topic level, so finding the matching topic filters for a topic takes
+ * time proportional to the amount of topic levels and matches instead of the amount of topic filters in the index. The
+ * matching semantics are the same as in {@link TopicMatcher}.
+ * <p>
+ * The TopicFilterIndex is thread safe. Lookups do not block and can run concurrently with modifications.
+ *
+ * @param <T> The type of the values associated with the topic filters.
+ * @see TopicMatcher#createTopicFilterIndex()
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface TopicFilterIndex<T> {
+
+    /**
+     * Associates the value with the topic filter.
+     *
+     * @param topicFilter The topic filter, may contain wildcards or be a shared subscription topic filter.
+     * @param value       The value to associate with the topic filter.
+     * @return <code>true</code> if the value was added, <code>false</code> if it was already associated with the topic
+     *         filter.
+     * @throws NullPointerException     If the topic filter or the value is null.
+     * @throws IllegalArgumentException If the topic filter is not a valid topic filter.
+     * @since 4.54.0
+     */
+    boolean add(@NotNull String topicFilter, @NotNull T value);
+
+    /**
+     * Removes the association of the value with the topic filter.
+     *
+     * @param topicFilter The topic filter.
+     * @param value       The value to remove.
+     * @return <code>true</code> if the value was removed, <code>false</code> if it was not associated with the topic
+     *         filter.
+     * @throws NullPointerException If the topic filter or the value is null.
+     * @since 4.54.0
+     */
+    boolean remove(@NotNull String topicFilter, @NotNull T value);
+
+    /**
+     * Performs the given action for every value whose topic filter matches the topic.
+     * <p>
+     * A value that is associated with multiple matching topic filters is passed to the action once per topic filter.
+     * This method does not allocate any objects apart from what the action allocates.
+     *
+     * @param topic  The topic of a PUBLISH.
+     * @param action The action to perform for every matching value.
+     * @throws NullPointerException     If the topic or the action is null.
+     * @throws IllegalArgumentException If the topic is not a valid topic for PUBLISH messages.
+     * @since 4.54.0
+     */
+    void forEachMatch(@NotNull String topic, @NotNull Consumer<? super T> action);
+
+    /**
+     * Finds all distinct values whose topic filters match the topic.
+     *
+     * @param topic The topic of a PUBLISH.
+     * @return An immutable {@link Set} of the matching values.
+     * @throws NullPointerException     If the topic is null.
+     * @throws IllegalArgumentException If the topic is not a valid topic for PUBLISH messages.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull Set<@NotNull T> getMatches(@NotNull String topic);
+
+    /**
+     * Checks if any topic filter in this index matches the topic.
+     *
+     * @param topic The topic of a PUBLISH.
+     * @return <code>true</code> if at least one topic filter matches the topic, else <code>false</code>.
+     * @throws NullPointerException     If the topic is null.
+     * @throws IllegalArgumentException If the topic is not a valid topic for PUBLISH messages.
+     * @since 4.54.0
+     */
+    boolean hasMatch(@NotNull String topic);
+
+    /**
+     * @return The amount of topic filter and value associations in this index.
+     * @since 4.54.0
+     */
+    int size();
+
+    /**
+     * Removes all topic filters and values from this index.
+     *
+     * @since 4.54.0
+     */
+    void clear();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extension.sdk.api.services.subscription;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+
+/**
+ * A service to match MQTT topics against topic filters with exactly the same semantics as HiveMQ uses for subscriptions
+ * in the {@link SubscriptionStore}.
+ * <p>
+ * The following rules apply:
+ * <ul>
+ *   <li>The single level wildcard <code>+</code> matches exactly one topic level.
+ *   <li>The multi level wildcard <code>#</code> matches the parent topic level and any amount of child topic levels.
+ *   <li>Topics starting with <code>$</code> are not matched by topic filters starting with a wildcard.
+ *   <li>For a shared subscription topic filter <code>$share/&lt;group&gt;/&lt;filter&gt;</code> only
+ *     <code>&lt;filter&gt;</code> is matched.
+ * </ul>
+ * <p>
+ * Matching does not allocate any objects, in particular topics and topic filters are not split into their levels.
+ * <p>
+ * The TopicMatcher is thread safe.
+ *
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface TopicMatcher {
+
+    /**
+     * Checks if the topic matches the topic filter.
+     *
+     * @param topicFilter The topic filter, may contain wildcards or be a shared subscription topic filter.
+     * @param topic       The topic of a PUBLISH.
+     * @return <code>true</code> if the topic matches the topic filter, else <code>false</code>.
+     * @throws NullPointerException     If the topic filter or the topic is null.
+     * @throws IllegalArgumentException If the topic filter is not a valid topic filter.
+     * @throws IllegalArgumentException If the topic is not a valid topic for PUBLISH messages.
+     * @since 4.54.0
+     */
+    boolean matches(@NotNull String topicFilter, @NotNull String topic);
+
+    /**
+     * Checks if the given string is a valid topic filter, with the same limits that HiveMQ applies to subscriptions.
+     *
+     * @param topicFilter The topic filter to check.
+     * @return <code>true</code> if the topic filter is valid, else <code>false</code>.
+     * @throws NullPointerException If the topic filter is null.
+     * @since 4.54.0
+     */
+    boolean isValidTopicFilter(@NotNull String topicFilter);
+
+    /**
+     * Checks if the given string is a valid topic for PUBLISH messages, with the same limits that HiveMQ applies to
+     * PUBLISH messages.
+     *
+     * @param topic The topic to check.
+     * @return <code>true</code> if the topic is valid, else <code>false</code>.
+     * @throws NullPointerException If the topic is null.
+     * @since 4.54.0
+     */
+    boolean isValidTopic(@NotNull String topic);
+
+    /**
+     * Creates a new, empty {@link TopicFilterIndex}.
+     *
+     * @param <T> The type of the values associated with the topic filters.
+     * @return A new {@link TopicFilterIndex}.
+     * @since 4.54.0
+     */
+    <T> @NotNull TopicFilterIndex<T> createTopicFilterIndex();
+}